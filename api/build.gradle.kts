@@ -1,3 +1,25 @@
+val java21: SourceSet by sourceSets.creating {
+    java.srcDir("src/main/java21")
+}
+
+configurations[java21.compileOnlyConfigurationName].extendsFrom(configurations.compileOnly.get())
+
 dependencies {
     compileOnly(libs.spigot)
-}
\ No newline at end of file
+    "java21CompileOnly"(sourceSets.main.map { it.output })
+}
+
+tasks {
+    named<JavaCompile>(java21.compileJavaTaskName) {
+        javaCompiler.set(javaToolchains.compilerFor {
+            languageVersion.set(JavaLanguageVersion.of(21))
+        })
+    }
+
+    jar {
+        into("META-INF/versions/21") {
+            from(java21.output)
+        }
+        manifest.attributes("Multi-Release" to "true")
+    }
+}
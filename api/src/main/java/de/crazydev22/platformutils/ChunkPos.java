@@ -0,0 +1,57 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils;
+
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The coordinates of a chunk within a world.
+ *
+ * @param x the chunk X coordinate
+ * @param z the chunk Z coordinate
+ */
+public record ChunkPos(int x, int z) {
+
+    /**
+     * Returns the position of the chunk containing the specified location.
+     *
+     * @param location the location
+     * @return the chunk position
+     */
+    public static @NotNull ChunkPos of(@NotNull Location location) {
+        return new ChunkPos(location.getBlockX() >> 4, location.getBlockZ() >> 4);
+    }
+
+    /**
+     * Returns the position of the specified chunk.
+     *
+     * @param chunk the chunk
+     * @return the chunk position
+     */
+    public static @NotNull ChunkPos of(@NotNull Chunk chunk) {
+        return new ChunkPos(chunk.getX(), chunk.getZ());
+    }
+}
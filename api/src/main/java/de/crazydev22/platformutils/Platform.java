@@ -24,6 +24,7 @@
 package de.crazydev22.platformutils;
 
 import de.crazydev22.platformutils.scheduler.*;
+import de.crazydev22.platformutils.scheduler.metrics.ISchedulerMetrics;
 import org.bukkit.Chunk;
 import org.bukkit.Location;
 import org.bukkit.Server;
@@ -38,7 +39,15 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Range;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Represents a platform interface that provides various utility methods
@@ -164,6 +173,22 @@ public interface Platform {
      */
     @NotNull IAsyncScheduler getAsyncScheduler();
 
+    /**
+     * Retrieves the mode the {@link #getAsyncScheduler() async scheduler} runs its tasks with.
+     * This may differ from the requested mode if it is not supported by the current runtime.
+     *
+     * @return the async mode in use
+     */
+    @NotNull AsyncMode getAsyncMode();
+
+    /**
+     * Retrieves the metrics of the schedulers of this platform. While metrics are enabled, the schedulers and
+     * region executors returned by this platform record the tasks submitted to them.
+     *
+     * @return the scheduler metrics
+     */
+    @NotNull ISchedulerMetrics getMetrics();
+
     /**
      * An entity can move between worlds with an arbitrary tick delay, be temporarily removed
      * for players (i.e end credits), be partially removed from world state (i.e inactive but not removed),
@@ -211,6 +236,161 @@ public interface Platform {
      */
     @NotNull IRegionScheduler getRegionScheduler();
 
+    /**
+     * Returns an {@link Executor} for the global region. Commands submitted from the global tick thread are run
+     * inline, all others are scheduled on the {@link #getGlobalScheduler() global scheduler}, so
+     * {@link CompletableFuture} chains do not wait a tick per stage.
+     *
+     * @return an executor for the global region
+     */
+    default @NotNull Executor globalExecutor() {
+        return command -> {
+            if (isGlobalTickThread()) command.run();
+            else getGlobalScheduler().execute(command);
+        };
+    }
+
+    /**
+     * Returns an {@link Executor} for the region owning the specified chunk. Commands submitted from a thread that
+     * owns the chunk are run inline, all others are scheduled on the {@link #getRegionScheduler() region scheduler}.
+     *
+     * @param world  the world of the chunk
+     * @param chunkX the chunk X coordinate
+     * @param chunkZ the chunk Z coordinate
+     * @return an executor for the region owning the chunk
+     */
+    default @NotNull Executor regionExecutor(@NotNull World world, int chunkX, int chunkZ) {
+        return command -> {
+            if (isOwnedByCurrentRegion(world, chunkX, chunkZ)) command.run();
+            else getRegionScheduler().execute(world, chunkX, chunkZ, command);
+        };
+    }
+
+    /**
+     * Returns an {@link Executor} for the region owning the specified location. Commands submitted from a thread that
+     * owns the location are run inline, all others are scheduled on the {@link #getRegionScheduler() region scheduler}.
+     *
+     * @param location the location
+     * @return an executor for the region owning the location
+     */
+    default @NotNull Executor regionExecutor(@NotNull Location location) {
+        return regionExecutor(location.getWorld(), location.getBlockX() >> 4, location.getBlockZ() >> 4);
+    }
+
+    /**
+     * Returns an {@link Executor} for the region owning the specified entity. Commands submitted from a thread that
+     * owns the entity are run inline, all others are scheduled on the {@link #getEntityScheduler(Entity) entity scheduler}.
+     * Commands submitted after the entity was removed are rejected with a {@link RejectedExecutionException}.
+     * <p>
+     * Commands whose entity is removed before they run are handed to the {@link #getGlobalScheduler() global scheduler},
+     * so stages of a {@link CompletableFuture} never hang. They must check whether the entity is still valid.
+     *
+     * @param entity the entity
+     * @return an executor for the region owning the entity
+     * @see #entityExecutor(Entity, Consumer)
+     */
+    default @NotNull Executor entityExecutor(@NotNull Entity entity) {
+        return entityExecutor(entity, getGlobalScheduler()::execute);
+    }
+
+    /**
+     * Returns an {@link Executor} for the region owning the specified entity. Commands submitted from a thread that
+     * owns the entity are run inline, all others are scheduled on the {@link #getEntityScheduler(Entity) entity scheduler}.
+     * Commands submitted after the entity was removed are rejected with a {@link RejectedExecutionException}.
+     * <p>
+     * Commands whose entity is removed before they run are handed to the retired handler instead. It is invoked in
+     * critical code, see {@link IEntityScheduler#execute(Runnable, Runnable, long)}.
+     *
+     * @param entity  the entity
+     * @param retired receives the commands whose entity was removed before they could run
+     * @return an executor for the region owning the entity
+     */
+    default @NotNull Executor entityExecutor(@NotNull Entity entity, @NotNull Consumer<Runnable> retired) {
+        return command -> {
+            if (isOwnedByCurrentRegion(entity)) command.run();
+            else if (!getEntityScheduler(entity).execute(command, () -> retired.accept(command), 1))
+                throw new RejectedExecutionException("Entity is removed!");
+        };
+    }
+
+    /**
+     * Runs the task for each of the specified chunks on the region owning it. Chunks owned by the same region share
+     * a single task, on Spigot and Paper all chunks share a single task.
+     *
+     * @param world  the world of the chunks
+     * @param chunks the chunks
+     * @param task   the task to run for each chunk
+     * @return a future completing once the task ran for every chunk, it completes exceptionally with the first
+     * exception thrown by the task
+     */
+    default @NotNull CompletableFuture<Void> runForEach(@NotNull World world, @NotNull Collection<ChunkPos> chunks,
+                                                       @NotNull Consumer<ChunkPos> task) {
+        return RegionBatch.forEach(this, world, chunks, task);
+    }
+
+    /**
+     * Runs the task for each of the specified entities on the region owning it. Entities in the same region share
+     * a single task, on Spigot and Paper all entities share a single task. Entities that moved to another region
+     * in the meantime are handed to their {@link #getEntityScheduler(Entity) entity scheduler}, entities removed
+     * before their turn are skipped.
+     *
+     * @param entities the entities
+     * @param task     the task to run for each entity
+     * @return a future completing once the task ran for every entity that was not removed, it completes
+     * exceptionally with the first exception thrown by the task
+     */
+    default @NotNull CompletableFuture<Void> runForEachEntity(@NotNull Collection<? extends Entity> entities,
+                                                             @NotNull Consumer<Entity> task) {
+        return RegionBatch.forEachEntity(this, entities, task);
+    }
+
+    /**
+     * Starts a map-reduce over all generated chunks in the specified area, loading at most 16 chunks at the same time
+     * and spending at most 10 milliseconds per tick on Spigot and Paper.
+     *
+     * @param <T>       the type of the result
+     * @param world     the world of the area
+     * @param minChunkX the smallest chunk X coordinate of the area
+     * @param minChunkZ the smallest chunk Z coordinate of the area
+     * @param maxChunkX the largest chunk X coordinate of the area, inclusive
+     * @param maxChunkZ the largest chunk Z coordinate of the area, inclusive
+     * @param mapper    the mapper run for each chunk on the thread owning it, chunks it maps to null are left out
+     * @param identity  the result of an area without generated chunks
+     * @param reducer   the associative and commutative function merging two results
+     * @return the running scan
+     * @see #scanChunks(World, int, int, int, int, Function, Object, BinaryOperator, int, int)
+     */
+    default @NotNull <T> IChunkScan<T> scanChunks(@NotNull World world, int minChunkX, int minChunkZ, int maxChunkX, int maxChunkZ,
+                                                  @NotNull Function<? super Chunk, ? extends T> mapper, T identity,
+                                                  @NotNull BinaryOperator<T> reducer) {
+        return scanChunks(world, minChunkX, minChunkZ, maxChunkX, maxChunkZ, mapper, identity, reducer, 16, 10);
+    }
+
+    /**
+     * Starts a map-reduce over all generated chunks in the specified area. On Folia the mapper runs in parallel on
+     * the regions owning the chunks, on Spigot and Paper it runs on the main thread within the per-tick budget.
+     *
+     * @param <T>        the type of the result
+     * @param world      the world of the area
+     * @param minChunkX  the smallest chunk X coordinate of the area
+     * @param minChunkZ  the smallest chunk Z coordinate of the area
+     * @param maxChunkX  the largest chunk X coordinate of the area, inclusive
+     * @param maxChunkZ  the largest chunk Z coordinate of the area, inclusive
+     * @param mapper     the mapper run for each chunk on the thread owning it, chunks it maps to null are left out
+     * @param identity   the result of an area without generated chunks
+     * @param reducer    the associative and commutative function merging two results
+     * @param maxLoading the maximum number of chunks to load at the same time. Must be a positive integer.
+     * @param msPerTick  the maximum number of milliseconds to spend per tick on Spigot and Paper. Must be a positive integer.
+     * @return the running scan
+     */
+    default @NotNull <T> IChunkScan<T> scanChunks(@NotNull World world, int minChunkX, int minChunkZ, int maxChunkX, int maxChunkZ,
+                                                  @NotNull Function<? super Chunk, ? extends T> mapper, T identity,
+                                                  @NotNull BinaryOperator<T> reducer,
+                                                  @Range(from = 1, to = Integer.MAX_VALUE) int maxLoading,
+                                                  @Range(from = 1, to = Integer.MAX_VALUE) int msPerTick) {
+        return new ChunkScan<>(this, world, minChunkX, minChunkZ, maxChunkX, maxChunkZ, mapper, identity, reducer, maxLoading, msPerTick);
+    }
+
     /**
      * Teleport an entity to a location async
      *
@@ -335,6 +515,126 @@ public interface Platform {
      */
     @NotNull IRegionExecutor createRegionExecutor(@Range(from = 1, to = Integer.MAX_VALUE) int msPerTick);
 
+    /**
+     * Creates an {@link ITickExecutor} that coalesces all submitted tasks into a single repeating
+     * task on the global region, which drains them once per tick without a time limit.
+     *
+     * @return a new tick executor
+     */
+    default @NotNull ITickExecutor createTickExecutor() {
+        return createTickExecutor(0);
+    }
+
+    /**
+     * Creates an {@link ITickExecutor} that coalesces all submitted tasks into a single repeating
+     * task on the global region. Tasks that do not fit into the per-tick budget are carried over
+     * to the next tick. The lanes use the default minimum shares of 10% for {@link TaskPriority#NORMAL}
+     * and 5% for {@link TaskPriority#BACKGROUND}.
+     *
+     * @param msPerTick the maximum number of milliseconds that the executor
+     *                  is allowed to spend per tick, or {@code 0} for no limit.
+     * @return a new tick executor
+     */
+    default @NotNull ITickExecutor createTickExecutor(@Range(from = 0, to = Integer.MAX_VALUE) int msPerTick) {
+        return createTickExecutor(msPerTick, TickExecutor.DEFAULT_SHARES);
+    }
+
+    /**
+     * Creates an {@link ITickExecutor} that coalesces all submitted tasks into a single repeating
+     * task on the global region. Higher {@link TaskPriority priority lanes} are drained first, but every
+     * lane with queued work is guaranteed its minimum share of the per-tick budget. Tasks that do not fit
+     * into the budget are carried over to the next tick.
+     *
+     * @param msPerTick the maximum number of milliseconds that the executor
+     *                  is allowed to spend per tick, or {@code 0} for no limit.
+     * @param shares    the guaranteed minimum share of the budget in percent per lane. Lanes that are
+     *                  missing receive no guaranteed share. The shares must not exceed 100 in total.
+     * @return a new tick executor
+     */
+    default @NotNull ITickExecutor createTickExecutor(@Range(from = 0, to = Integer.MAX_VALUE) int msPerTick,
+                                                      @NotNull Map<TaskPriority, Integer> shares) {
+        return new TickExecutor(this, msPerTick, shares);
+    }
+
+    /**
+     * Creates an {@link IBoundedAsyncScheduler} that runs its tasks on at most the given number of threads.
+     * Tasks that find all threads busy are queued up to the queue capacity, any further tasks are handled
+     * according to the overflow policy. The scheduler shuts down once the plugin is disabled.
+     *
+     * @param threads       the maximum number of threads. Must be a positive integer.
+     * @param queueCapacity the maximum number of tasks waiting for a thread
+     * @param policy        what to do with tasks once the threads are busy and the queue is full
+     * @return a new bounded async scheduler
+     */
+    default @NotNull IBoundedAsyncScheduler createBoundedAsyncScheduler(@Range(from = 1, to = Integer.MAX_VALUE) int threads,
+                                                                        @Range(from = 0, to = Integer.MAX_VALUE) int queueCapacity,
+                                                                        @NotNull OverflowPolicy policy) {
+        var scheduler = new BoundedAsyncScheduler(getPlugin(), threads, queueCapacity, policy);
+        getPlugin().getServer().getPluginManager().registerEvents(scheduler, getPlugin());
+        return scheduler;
+    }
+
+    /**
+     * Creates an {@link ITaskScope} to group related tasks from any scheduler, so they can be cancelled together.
+     * When the plugin is disabled, the scope waits up to one second for its running tasks.
+     *
+     * @return a new task scope
+     */
+    default @NotNull ITaskScope createScope() {
+        return createScope(TaskScope.DEFAULT_DRAIN_TIMEOUT);
+    }
+
+    /**
+     * Creates an {@link ITaskScope} to group related tasks from any scheduler, so they can be cancelled together.
+     *
+     * @param drainTimeout the maximum time to wait for running tasks of the scope when the plugin is disabled
+     * @return a new task scope
+     */
+    @NotNull ITaskScope createScope(@NotNull Duration drainTimeout);
+
+    /**
+     * Creates an {@link ITimerService} that keeps large numbers of delayed and repeating tasks in timing wheels,
+     * driven by a single task on the global scheduler and a single timer thread.
+     * The service closes itself once the plugin is disabled.
+     *
+     * @return a new timer service
+     */
+    default @NotNull ITimerService createTimerService() {
+        var service = new TimerService(this);
+        getPlugin().getServer().getPluginManager().registerEvents(service, getPlugin());
+        return service;
+    }
+
+    /**
+     * Creates an {@link IPhaseSpreader} whose schedulers spread repeating tasks with the same period evenly
+     * across the ticks of that period, driven by a single tick counting task on the global scheduler.
+     *
+     * @return a new phase spreader
+     */
+    default @NotNull IPhaseSpreader createPhaseSpreader() {
+        return new PhaseSpreader(this);
+    }
+
+    /**
+     * Creates an {@link ITaskMultiplexer} whose schedulers share one platform task between all repeating tasks
+     * with the same period, tick and owner, driven by a single tick counting task on the global scheduler.
+     *
+     * @return a new task multiplexer
+     */
+    default @NotNull ITaskMultiplexer createTaskMultiplexer() {
+        return new TaskMultiplexer(this);
+    }
+
+    /**
+     * Creates an {@link IEntityTicker} whose entity schedulers run repeating tasks of all entities in the same
+     * region section with the same period from one shared task on the region scheduler.
+     *
+     * @return a new entity ticker
+     */
+    default @NotNull IEntityTicker createEntityTicker() {
+        return new EntityTicker(this);
+    }
+
     /**
      * Edits the provided item and returns an editor instance for further modifications.
      *
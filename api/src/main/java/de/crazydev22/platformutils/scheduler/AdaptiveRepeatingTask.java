@@ -0,0 +1,214 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.scheduler;
+
+import de.crazydev22.platformutils.scheduler.task.AdaptiveTask;
+import de.crazydev22.platformutils.scheduler.task.Task;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Platform independent implementation of {@link AdaptiveTask} that schedules every run as a delayed task with the
+ * current period, so decorated schedulers apply to each run.
+ * <p>
+ * The load of a run is measured twice: as the average tick duration of the thread from {@link TickLoad}, and as the
+ * lateness per tick, the time per tick that actually passed since the previous run minus the length of a tick, which
+ * only grows while the server or region lags. Only Paper reports tick durations, on Spigot and on Folia region threads
+ * the period adapts to observed lateness alone. The period grows by half while either measure is above its high
+ * threshold and shrinks by a quarter, at least one tick, while both are below their low thresholds, so it backs off
+ * quickly and recovers at a slower pace.
+ */
+@ApiStatus.Internal
+public final class AdaptiveRepeatingTask implements AdaptiveTask {
+    /**
+     * The tick duration in milliseconds above which the period grows.
+     */
+    public static final double HIGH_LOAD = 45;
+    /**
+     * The tick duration in milliseconds below which the period shrinks.
+     */
+    public static final double LOW_LOAD = 35;
+    /**
+     * The lateness per tick in milliseconds above which the period grows.
+     */
+    public static final double HIGH_LATENESS = 5;
+    /**
+     * The lateness per tick in milliseconds below which the period shrinks.
+     */
+    public static final double LOW_LATENESS = 2;
+    private static final double TICK = 50;
+
+    private final Delayed scheduler;
+    private final Consumer<AdaptiveTask> task;
+    private final long minPeriod;
+    private final long maxPeriod;
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+    private volatile long period;
+    private volatile Task current;
+    private volatile boolean running;
+    private volatile boolean retired;
+    private final Runnable retire = () -> retired = true;
+    private long lastRun;
+    private long lastDelay;
+
+    private AdaptiveRepeatingTask(Delayed scheduler, Consumer<AdaptiveTask> task, long minPeriod, long maxPeriod) {
+        this.scheduler = scheduler;
+        this.task = task;
+        this.minPeriod = minPeriod;
+        this.maxPeriod = maxPeriod;
+        this.period = minPeriod;
+    }
+
+    /**
+     * Starts an adaptive task.
+     *
+     * @param scheduler         schedules a single run of the task after a delay in ticks
+     * @param task              the task to execute
+     * @param initialDelayTicks the delay of the first run, in ticks
+     * @param minPeriodTicks    the period while the server is not under load, in ticks
+     * @param maxPeriodTicks    the period to back off to at most, in ticks
+     * @return the task, or null if the scheduler refused the first run
+     */
+    public static @Nullable AdaptiveTask start(@NotNull Delayed scheduler, @NotNull Consumer<AdaptiveTask> task,
+                                               long initialDelayTicks, long minPeriodTicks, long maxPeriodTicks) {
+        if (minPeriodTicks < 1) throw new IllegalArgumentException("minPeriodTicks must be positive");
+        if (maxPeriodTicks < minPeriodTicks) throw new IllegalArgumentException("maxPeriodTicks must not be less than minPeriodTicks");
+        var adaptive = new AdaptiveRepeatingTask(scheduler, task, minPeriodTicks, maxPeriodTicks);
+        return adaptive.schedule(initialDelayTicks) ? adaptive : null;
+    }
+
+    private boolean schedule(long delay) {
+        final Task handle = scheduler.runDelayed(this::run, retire, delay);
+        if (handle == null) {
+            retired = true;
+            return false;
+        }
+        lastDelay = delay;
+        current = handle;
+        if (cancelled.get()) handle.cancel();
+        return true;
+    }
+
+    private void run(Task handle) {
+        if (cancelled.get()) return;
+        final long now = System.nanoTime();
+        running = true;
+        try {
+            task.accept(this);
+        } finally {
+            running = false;
+            if (!cancelled.get()) {
+                adapt(now);
+                schedule(period);
+            }
+        }
+    }
+
+    private void adapt(long now) {
+        final double load = TickLoad.get();
+        double lateness = 0;
+        if (lastRun != 0) {
+            final double perTick = (double) TimeUnit.NANOSECONDS.toMicros(now - lastRun) / 1000 / lastDelay;
+            lateness = Math.max(0, perTick - TICK);
+        }
+        lastRun = now;
+
+        final long period = this.period;
+        if (load > HIGH_LOAD || lateness > HIGH_LATENESS) {
+            this.period = Math.min(maxPeriod, period + (period + 1) / 2);
+        } else if (load < LOW_LOAD && lateness < LOW_LATENESS && period > minPeriod) {
+            this.period = Math.max(minPeriod, period - Math.max(1, period / 4));
+        }
+    }
+
+    @Override
+    public long getPeriod() {
+        return period;
+    }
+
+    @Override
+    public long getMinPeriod() {
+        return minPeriod;
+    }
+
+    @Override
+    public long getMaxPeriod() {
+        return maxPeriod;
+    }
+
+    @Override
+    public @NotNull Plugin getOwner() {
+        return current.getOwner();
+    }
+
+    @Override
+    public boolean isRepeating() {
+        return true;
+    }
+
+    @Override
+    public boolean isAsync() {
+        return false;
+    }
+
+    @Override
+    public @NotNull CancelledState cancel() {
+        if (retired) return CancelledState.CANCELLED_ALREADY;
+        if (!cancelled.compareAndSet(false, true)) {
+            return running ? CancelledState.NEXT_RUNS_CANCELLED_ALREADY : CancelledState.CANCELLED_ALREADY;
+        }
+        final Task current = this.current;
+        if (current != null) current.cancel();
+        return running ? CancelledState.NEXT_RUNS_CANCELLED : CancelledState.CANCELLED_BY_CALLER;
+    }
+
+    @Override
+    public @NotNull ExecutionState getExecutionState() {
+        if (cancelled.get() || retired) return running ? ExecutionState.CANCELLED_RUNNING : ExecutionState.CANCELLED;
+        return running ? ExecutionState.RUNNING : ExecutionState.IDLE;
+    }
+
+    /**
+     * Schedules a single run of a task after a delay.
+     */
+    @FunctionalInterface
+    @ApiStatus.Internal
+    public interface Delayed {
+        /**
+         * Schedules the task to run once after the delay.
+         *
+         * @param task       the task to execute
+         * @param retired    to run instead of the task if its scheduler is retired before the run
+         * @param delayTicks the delay, in ticks
+         * @return the scheduled task, or null if it could not be scheduled
+         */
+        @Nullable Task runDelayed(@NotNull Consumer<Task> task, @NotNull Runnable retired, long delayTicks);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.scheduler;
+
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Selects the threads that run the tasks of the {@link IAsyncScheduler}.
+ * The mode is chosen once when the {@link de.crazydev22.platformutils.Platform} is created.
+ */
+public enum AsyncMode {
+    /**
+     * Runs async tasks on the thread pool of the platform.
+     */
+    PLATFORM,
+    /**
+     * Runs every async task on its own virtual thread, which is cheap for tasks that block on I/O.
+     * This requires Java 21, on older runtimes {@link #PLATFORM} is used instead.
+     * <p>
+     * Virtual threads are provided by a multi-release class, so a plugin shading this library has to keep
+     * {@code Multi-Release: true} in the manifest of its jar.
+     */
+    VIRTUAL_THREADS;
+
+    /**
+     * Returns whether this mode is supported by the current runtime.
+     *
+     * @return true if the mode can be used
+     */
+    public boolean isSupported() {
+        return this != VIRTUAL_THREADS || VirtualThreads.isSupported();
+    }
+
+    /**
+     * Returns this mode if it is supported, otherwise {@link #PLATFORM} after logging a warning.
+     *
+     * @param plugin the plugin to log the warning for
+     * @return the mode that will be used
+     */
+    @ApiStatus.Internal
+    public @NotNull AsyncMode resolve(@NotNull Plugin plugin) {
+        if (isSupported()) return this;
+        plugin.getLogger().warning("Async mode " + this + " is not supported by this runtime, falling back to " + PLATFORM);
+        return PLATFORM;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.scheduler;
+
+import de.crazydev22.platformutils.scheduler.task.ManagedTask;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An {@link ExecutorAsyncScheduler} backed by a {@link BoundedExecutor}. Tasks handed over by the timer thread are
+ * never run on it, {@link OverflowPolicy#CALLER_RUNS} parks them instead.
+ */
+@ApiStatus.Internal
+public final class BoundedAsyncScheduler extends ExecutorAsyncScheduler implements IBoundedAsyncScheduler {
+    private final BoundedExecutor executor;
+
+    public BoundedAsyncScheduler(@NotNull Plugin plugin, int threads, int queueCapacity, @NotNull OverflowPolicy policy) {
+        this(plugin, new BoundedExecutor(threadFactory(plugin.getName() + " Bounded Async Scheduler Thread"), threads, queueCapacity, policy));
+    }
+
+    private BoundedAsyncScheduler(Plugin plugin, BoundedExecutor executor) {
+        super(plugin, executor);
+        this.executor = executor;
+    }
+
+    @Override
+    protected void handOff(@NotNull ManagedTask task, @NotNull Runnable run, boolean timed) {
+        executor.execute(run, timed, task::reject);
+    }
+
+    @Override
+    public @NotNull OverflowPolicy getOverflowPolicy() {
+        return executor.getPolicy();
+    }
+
+    @Override
+    public @NotNull PoolStatistics getStatistics() {
+        return executor.getStatistics();
+    }
+
+    @Override
+    public void close() {
+        shutdown();
+    }
+}
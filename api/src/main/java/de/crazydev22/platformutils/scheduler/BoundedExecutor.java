@@ -0,0 +1,229 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.scheduler;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * An executor with a fixed number of threads and a bounded queue. The capacity of the threads and the queue
+ * is guarded by a semaphore, tasks that do not get a permit are handled according to the {@link OverflowPolicy}.
+ * <p>
+ * Parked tasks hold no permit. Whenever a permit is released the parked tasks are rechecked, and parking
+ * rechecks the permits afterward, so a task can not be stranded between the two. At most as many tasks as the
+ * threads and the queue can hold are parked at the same time.
+ */
+@ApiStatus.Internal
+public final class BoundedExecutor extends AbstractExecutorService {
+    private final ThreadPoolExecutor pool;
+    private final OverflowPolicy policy;
+    private final Semaphore capacity;
+    private final int maxWaiting;
+    private final ConcurrentLinkedQueue<Parked> waiting = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger waitingCount = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder callerRuns = new LongAdder();
+
+    public BoundedExecutor(@NotNull ThreadFactory factory, int threads, int queueCapacity, @NotNull OverflowPolicy policy) {
+        if (threads < 1) throw new IllegalArgumentException("threads must be positive");
+        if (queueCapacity < 0) throw new IllegalArgumentException("queueCapacity must not be negative");
+        this.pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), factory);
+        this.pool.allowCoreThreadTimeOut(true);
+        this.policy = policy;
+        this.capacity = new Semaphore(threads + queueCapacity);
+        this.maxWaiting = threads + queueCapacity;
+    }
+
+    @Override
+    public void execute(@NotNull Runnable command) {
+        execute(command, false, null);
+    }
+
+    /**
+     * Executes the command, handling it according to the overflow policy if there is no capacity left.
+     *
+     * @param command  the command
+     * @param timed    whether the command is handed over by a timer thread, {@link OverflowPolicy#CALLER_RUNS}
+     *                 parks those instead of holding up the timer
+     * @param rejected called with the cause if the command is rejected, including parked commands that are rejected
+     *                 once the executor shut down. If null, the cause is thrown and rejected parked commands are dropped
+     */
+    public void execute(@NotNull Runnable command, boolean timed, @Nullable Consumer<RejectedExecutionException> rejected) {
+        Objects.requireNonNull(command, "command");
+        if (pool.isShutdown()) {
+            reject(rejected, new RejectedExecutionException("Executor has been shut down"));
+            return;
+        }
+        if (capacity.tryAcquire()) {
+            try {
+                pool.execute(new Job(command));
+            } catch (RejectedExecutionException e) {
+                capacity.release();
+                reject(rejected, e);
+            }
+            return;
+        }
+
+        switch (policy) {
+            case REJECT -> {
+                this.rejected.increment();
+                reject(rejected, new RejectedExecutionException("All threads are busy and the queue is full"));
+            }
+            case CALLER_RUNS -> {
+                if (timed) {
+                    park(command, rejected);
+                } else {
+                    callerRuns.increment();
+                    command.run();
+                }
+            }
+            case WAIT -> park(command, rejected);
+        }
+    }
+
+    private void park(Runnable command, @Nullable Consumer<RejectedExecutionException> rejected) {
+        int count;
+        do {
+            count = waitingCount.get();
+            if (count >= maxWaiting) {
+                this.rejected.increment();
+                reject(rejected, new RejectedExecutionException("All threads are busy and too many tasks are parked"));
+                return;
+            }
+        } while (!waitingCount.compareAndSet(count, count + 1));
+
+        waiting.add(new Parked(command, rejected));
+        releaseWaiting();
+    }
+
+    private void releaseWaiting() {
+        while (!waiting.isEmpty() && capacity.tryAcquire()) {
+            final Parked next = waiting.poll();
+            if (next == null) {
+                capacity.release();
+                continue;
+            }
+
+            waitingCount.decrementAndGet();
+            try {
+                pool.execute(new Job(next.command));
+            } catch (RejectedExecutionException e) {
+                // shut down while parked
+                capacity.release();
+                if (next.rejected != null) next.rejected.accept(e);
+            }
+        }
+    }
+
+    private static void reject(@Nullable Consumer<RejectedExecutionException> handler, RejectedExecutionException cause) {
+        if (handler == null) throw cause;
+        handler.accept(cause);
+    }
+
+    public @NotNull OverflowPolicy getPolicy() {
+        return policy;
+    }
+
+    public @NotNull IBoundedAsyncScheduler.PoolStatistics getStatistics() {
+        return new IBoundedAsyncScheduler.PoolStatistics(
+                pool.getActiveCount(),
+                pool.getPoolSize(),
+                pool.getQueue().size(),
+                waitingCount.get(),
+                pool.getCompletedTaskCount(),
+                rejected.sum(),
+                callerRuns.sum()
+        );
+    }
+
+    /**
+     * Shuts the pool down, letting it finish the tasks that are already running or queued. Parked tasks are rejected.
+     */
+    @Override
+    public void shutdown() {
+        pool.shutdown();
+        final RejectedExecutionException cause = new RejectedExecutionException("Executor has been shut down");
+        for (Parked parked; (parked = waiting.poll()) != null; ) {
+            waitingCount.decrementAndGet();
+            if (parked.rejected != null) parked.rejected.accept(cause);
+        }
+    }
+
+    @Override
+    public @NotNull List<Runnable> shutdownNow() {
+        final List<Runnable> tasks = new ArrayList<>();
+        for (Runnable task : pool.shutdownNow()) {
+            tasks.add(task instanceof Job job ? job.task : task);
+        }
+        for (Parked parked; (parked = waiting.poll()) != null; ) {
+            waitingCount.decrementAndGet();
+            tasks.add(parked.command);
+        }
+        return tasks;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return pool.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return pool.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, @NotNull TimeUnit unit) throws InterruptedException {
+        return pool.awaitTermination(timeout, unit);
+    }
+
+    private record Parked(Runnable command, @Nullable Consumer<RejectedExecutionException> rejected) {}
+
+    private final class Job implements Runnable {
+        private final Runnable task;
+
+        private Job(Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            try {
+                task.run();
+            } finally {
+                capacity.release();
+                releaseWaiting();
+            }
+        }
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.scheduler;
+
+import de.crazydev22.platformutils.Platform;
+import de.crazydev22.platformutils.Type;
+import de.crazydev22.platformutils.scheduler.task.Task;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+/**
+ * Platform independent implementation of {@link IChunkScan}.
+ * <p>
+ * The chunks of the area are claimed row by row through a shared index, a new load is only started while fewer than
+ * the maximum number of loads are in flight. On Folia each loaded chunk is mapped through the
+ * {@link Platform#regionExecutor(World, int, int) region executor} of the chunk and the next load is started once a
+ * load finished. On Spigot and Paper a repeating task on the global scheduler starts the loads and maps the loaded
+ * chunks until the budget of the tick is spent.
+ * <p>
+ * Mapped values are merged into one partial result per region section, so regions do not contend on the same
+ * partial result. The partial results are reduced once the last chunk completed.
+ *
+ * @param <T> the type of the result
+ */
+@ApiStatus.Internal
+public final class ChunkScan<T> implements IChunkScan<T> {
+    private final CompletableFuture<T> result = new CompletableFuture<>();
+    private final Map<Long, T> partials = new ConcurrentHashMap<>();
+    private final Queue<Chunk> loaded = new ConcurrentLinkedQueue<>();
+    private final AtomicLong next = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicInteger loading = new AtomicInteger();
+    private final AtomicInteger filling = new AtomicInteger();
+    private final Platform platform;
+    private final World world;
+    private final int minChunkX;
+    private final int minChunkZ;
+    private final int width;
+    private final long total;
+    private final Function<? super Chunk, ? extends T> mapper;
+    private final T identity;
+    private final BinaryOperator<T> reducer;
+    private final int maxLoading;
+    private final long budget;
+    private final boolean folia;
+
+    /**
+     * Creates a new scan and starts it right away.
+     *
+     * @param platform   the platform
+     * @param world      the world of the area
+     * @param minChunkX  the smallest chunk X coordinate of the area
+     * @param minChunkZ  the smallest chunk Z coordinate of the area
+     * @param maxChunkX  the largest chunk X coordinate of the area, inclusive
+     * @param maxChunkZ  the largest chunk Z coordinate of the area, inclusive
+     * @param mapper     the mapper, chunks it maps to null are left out
+     * @param identity   the result of an empty area
+     * @param reducer    the associative and commutative function merging two results
+     * @param maxLoading the maximum number of chunks to load at the same time
+     * @param msPerTick  the maximum number of milliseconds to spend per tick on Spigot and Paper
+     */
+    public ChunkScan(@NotNull Platform platform, @NotNull World world, int minChunkX, int minChunkZ, int maxChunkX, int maxChunkZ,
+                     @NotNull Function<? super Chunk, ? extends T> mapper, T identity, @NotNull BinaryOperator<T> reducer,
+                     int maxLoading, int msPerTick) {
+        if (maxChunkX < minChunkX || maxChunkZ < minChunkZ) throw new IllegalArgumentException("Area must not be empty");
+        if (maxLoading < 1) throw new IllegalArgumentException("maxLoading must be positive");
+        if (msPerTick < 1) throw new IllegalArgumentException("msPerTick must be positive");
+        this.platform = platform;
+        this.world = world;
+        this.minChunkX = minChunkX;
+        this.minChunkZ = minChunkZ;
+        this.width = maxChunkX - minChunkX + 1;
+        this.total = (long) width * (maxChunkZ - minChunkZ + 1);
+        this.mapper = mapper;
+        this.identity = identity;
+        this.reducer = reducer;
+        this.maxLoading = maxLoading;
+        this.budget = TimeUnit.MILLISECONDS.toNanos(msPerTick);
+        this.folia = platform.getType() == Type.FOLIA;
+
+        if (folia) fill();
+        else platform.getGlobalScheduler().runAtFixedRate(this::tick, 1, 1);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<T> getResult() {
+        return result;
+    }
+
+    @Override
+    public long getTotal() {
+        return total;
+    }
+
+    @Override
+    public long getCompleted() {
+        return completed.get();
+    }
+
+    @Override
+    public void cancel() {
+        result.cancel(false);
+    }
+
+    private void tick(Task task) {
+        final long deadline = System.nanoTime() + budget;
+        while (!result.isDone()) {
+            final Chunk chunk = loaded.poll();
+            if (chunk != null) map(chunk);
+            else if (!start()) break;
+            if (System.nanoTime() - deadline >= 0) break;
+        }
+        if (result.isDone()) task.cancel();
+    }
+
+    /**
+     * Starts loads until the maximum number of loads is in flight. Loads that complete on the calling thread
+     * start their successor through the loop instead of recursing.
+     */
+    private void fill() {
+        if (filling.getAndIncrement() != 0) return;
+        do {
+            while (!result.isDone() && start()) ;
+        } while (filling.decrementAndGet() != 0);
+    }
+
+    /**
+     * Claims the next chunk and starts loading it.
+     *
+     * @return false if the maximum number of loads is in flight or no chunks are left
+     */
+    private boolean start() {
+        for (int current; (current = loading.get()) < maxLoading; ) {
+            if (!loading.compareAndSet(current, current + 1)) continue;
+            final long index = next.getAndIncrement();
+            if (index >= total) {
+                loading.decrementAndGet();
+                return false;
+            }
+
+            final int chunkX = minChunkX + (int) (index % width);
+            final int chunkZ = minChunkZ + (int) (index / width);
+            if (!folia && !platform.isChunkGenerated(world, chunkX, chunkZ)) {
+                loading.decrementAndGet();
+                complete();
+                return true;
+            }
+            platform.getChunkAtAsync(world, chunkX, chunkZ, false).whenComplete((chunk, e) -> loaded(chunkX, chunkZ, chunk, e));
+            return true;
+        }
+        return false;
+    }
+
+    private void loaded(int chunkX, int chunkZ, @Nullable Chunk chunk, @Nullable Throwable e) {
+        loading.decrementAndGet();
+        if (e != null) {
+            result.completeExceptionally(e);
+        } else if (chunk == null) {
+            complete();
+        } else if (folia) {
+            platform.regionExecutor(world, chunkX, chunkZ).execute(() -> map(chunk));
+        } else {
+            loaded.add(chunk);
+        }
+        if (folia) fill();
+    }
+
+    private void map(Chunk chunk) {
+        if (result.isDone()) return;
+        try {
+            final T value = mapper.apply(chunk);
+            if (value != null) {
+                final long section = (long) (chunk.getX() >> TaskMultiplexer.SECTION_SHIFT) << 32
+                        | ((chunk.getZ() >> TaskMultiplexer.SECTION_SHIFT) & 0xFFFFFFFFL);
+                partials.merge(section, value, reducer);
+            }
+        } catch (Throwable e) {
+            result.completeExceptionally(e);
+            return;
+        }
+        complete();
+    }
+
+    private void complete() {
+        if (completed.incrementAndGet() != total) return;
+        try {
+            T value = identity;
+            for (T partial : partials.values()) {
+                value = reducer.apply(value, partial);
+            }
+            result.complete(value);
+        } catch (Throwable e) {
+            result.completeExceptionally(e);
+        }
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.scheduler;
+
+import de.crazydev22.platformutils.Platform;
+import de.crazydev22.platformutils.scheduler.task.CompletableTask;
+import de.crazydev22.platformutils.scheduler.task.ManagedTask;
+import de.crazydev22.platformutils.scheduler.task.Task;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Level;
+
+/**
+ * Platform independent implementation of {@link IEntityTicker} that decorates the entity schedulers of the platform.
+ * <p>
+ * Buckets are keyed by world, region section and period and run by a repeating task on the region scheduler anchored
+ * at the chunk of the first entity. New entries are queued to the bucket and picked up by its next run. Entries of
+ * cancelled tasks and the slots of entries moved to another bucket are left behind as tombstones and swept out once enough
+ * of them piled up. A bucket cancels its region task once it has no entries left.
+ * <p>
+ * Time is only ever counted in the runs of a bucket, as the regions on Folia tick independently of each other and of
+ * the global region. A bucket converts the delay of each new entry into a number of its own runs when it picks the
+ * entry up, so a task never runs earlier than requested and starts with the first run of its bucket after that.
+ * Entries moved to another bucket carry their remaining delay with them.
+ */
+@ApiStatus.Internal
+public final class EntityTicker implements IEntityTicker {
+    private final Map<Key, Bucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong active = new AtomicLong();
+    private final Platform platform;
+    private final Plugin plugin;
+    private final IRegionScheduler platformRegion;
+    private volatile boolean closed;
+
+    public EntityTicker(@NotNull Platform platform) {
+        this.platform = platform;
+        this.plugin = platform.getPlugin();
+        this.platformRegion = platform.getRegionScheduler();
+    }
+
+    @Override
+    public @NotNull IEntityScheduler getEntityScheduler(@NotNull Entity entity) {
+        return new Bucketed(entity);
+    }
+
+    @Override
+    public int getBucketCount() {
+        return buckets.size();
+    }
+
+    @Override
+    public long getTaskCount() {
+        return active.get();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    private @Nullable Task schedule(Entity entity, Consumer<Task> action, @Nullable Runnable retired, long initialDelay, long period) {
+        if (isRetired(entity)) return null;
+        final var task = new ManagedTask(plugin, true, false);
+        task.bind(active::decrementAndGet);
+        active.incrementAndGet();
+        place(new Entry(entity, task, action, retired, period, initialDelay, System.nanoTime()), entity.getLocation());
+        return task;
+    }
+
+    private void place(Entry entry, Location location) {
+        final World world = location.getWorld();
+        final int chunkX = location.getBlockX() >> 4;
+        final int chunkZ = location.getBlockZ() >> 4;
+        final var key = Key.of(world, chunkX, chunkZ, entry.period);
+
+        for (;;) {
+            Bucket bucket = buckets.get(key);
+            if (bucket == null) {
+                final var created = new Bucket(key, System.nanoTime());
+                if ((bucket = buckets.putIfAbsent(key, created)) == null) {
+                    created.add(entry);
+                    platformRegion.runAtFixedRate(world, chunkX, chunkZ, created::run, 1, entry.period);
+                    return;
+                }
+            }
+            if (bucket.add(entry)) return;
+        }
+    }
+
+    /**
+     * Returns whether the tasks of the entity should be retired. Like the entity scheduler on Paper, a player keeps
+     * its tasks across death and respawn and only retires them once it quit.
+     */
+    private static boolean isRetired(Entity entity) {
+        if (entity instanceof Player player) return !player.isOnline();
+        return !entity.isValid();
+    }
+
+    private final class Bucket {
+        private final Queue<Entry> incoming = new ConcurrentLinkedQueue<>();
+        private final Key key;
+        private Entry[] entries = new Entry[8];
+        private int size;
+        private long runs;
+        private long last;
+        private long interval = 1;
+        private boolean retired;
+
+        private Bucket(Key key, long created) {
+            this.key = key;
+            this.last = created;
+        }
+
+        private synchronized boolean add(Entry entry) {
+            if (retired) return false;
+            incoming.add(entry);
+            return true;
+        }
+
+        private void run(Task handle) {
+            final long now = System.nanoTime();
+            for (Entry entry; (entry = incoming.poll()) != null; ) {
+                entry.due = runs + TaskMultiplexer.runsUntil(entry.delay, entry.enqueued, last, now, interval, key.period);
+                if (size == entries.length) entries = Arrays.copyOf(entries, size * 2);
+                entries[size++] = entry;
+            }
+            last = now;
+            interval = key.period;
+
+            int dead = 0;
+            for (int i = 0; i < size; i++) {
+                final Entry entry = entries[i];
+                if (entry == null || entry.task.isCancelled()) {
+                    dead++;
+                } else if (isRetired(entry.entity)) {
+                    entry.retire();
+                    dead++;
+                } else if (!platform.isOwnedByCurrentRegion(entry.entity)) {
+                    final Location location = entry.entity.getLocation();
+                    final var key = Key.of(location.getWorld(), location.getBlockX() >> 4, location.getBlockZ() >> 4, entry.period);
+                    if (key.equals(this.key)) continue;
+                    entries[i] = null;
+                    entry.delay = Math.max(0, entry.due - runs) * key.period;
+                    entry.enqueued = now;
+                    place(entry, location);
+                    dead++;
+                } else if (entry.due - runs <= 0) {
+                    try {
+                        entry.task.run(entry.action);
+                    } catch (Throwable e) {
+                        plugin.getLogger().log(Level.SEVERE, "Exception while executing entity task", e);
+                    }
+                }
+            }
+
+            runs++;
+            if (dead > size / 4) compact();
+            if (size == 0) retire(handle);
+        }
+
+        /**
+         * Removes the tombstones of cancelled, retired and moved entries, keeping the order of the remaining ones.
+         */
+        private void compact() {
+            int alive = 0;
+            for (int i = 0; i < size; i++) {
+                final Entry entry = entries[i];
+                if (entry != null && !entry.task.isCancelled()) entries[alive++] = entry;
+            }
+            Arrays.fill(entries, alive, size, null);
+            size = alive;
+        }
+
+        private synchronized void retire(Task handle) {
+            if (!incoming.isEmpty()) return;
+            retired = true;
+            buckets.remove(key, this);
+            handle.cancel();
+        }
+    }
+
+    private record Key(World world, int sectionX, int sectionZ, long period) {
+        private static Key of(World world, int chunkX, int chunkZ, long period) {
+            return new Key(world, chunkX >> TaskMultiplexer.SECTION_SHIFT, chunkZ >> TaskMultiplexer.SECTION_SHIFT, period);
+        }
+    }
+
+    private static final class Entry {
+        private final Entity entity;
+        private final ManagedTask task;
+        private final Consumer<Task> action;
+        private final Runnable retired;
+        private final long period;
+        private long delay;
+        private long enqueued;
+        private long due;
+
+        private Entry(Entity entity, ManagedTask task, Consumer<Task> action, @Nullable Runnable retired,
+                      long period, long delay, long enqueued) {
+            this.entity = entity;
+            this.task = task;
+            this.action = action;
+            this.retired = retired;
+            this.period = period;
+            this.delay = delay;
+            this.enqueued = enqueued;
+        }
+
+        private void retire() {
+            final Task.CancelledState state = task.cancel();
+            if (retired != null && (state == Task.CancelledState.CANCELLED_BY_CALLER || state == Task.CancelledState.NEXT_RUNS_CANCELLED)) {
+                retired.run();
+            }
+        }
+    }
+
+    private final class Bucketed implements IEntityScheduler {
+        private final Entity entity;
+
+        private Bucketed(Entity entity) {
+            this.entity = entity;
+        }
+
+        @Override
+        public @Nullable <R> CompletableTask<R> run(@NotNull Function<CompletableTask<R>, R> task, @Nullable Runnable retired) {
+            return platform.getEntityScheduler(entity).run(task, retired);
+        }
+
+        @Override
+        public boolean execute(@NotNull Runnable task, @Nullable Runnable retired,
+                               @Range(from = 1, to = Long.MAX_VALUE) long delayTicks) {
+            return platform.getEntityScheduler(entity).execute(task, retired, delayTicks);
+        }
+
+        @Override
+        public @Nullable <R> CompletableTask<R> runDelayed(@NotNull Function<CompletableTask<R>, R> task,
+                                                           @Nullable Runnable retired,
+                                                           @Range(from = 1, to = Long.MAX_VALUE) long delayTicks) {
+            return platform.getEntityScheduler(entity).runDelayed(task, retired, delayTicks);
+        }
+
+        @Override
+        public @Nullable Task runAtFixedRate(@NotNull Consumer<Task> task, @Nullable Runnable retired,
+                                             @Range(from = 1, to = Long.MAX_VALUE) long initialDelayTicks,
+                                             @Range(from = 1, to = Long.MAX_VALUE) long periodTicks) {
+            if (closed) return platform.getEntityScheduler(entity).runAtFixedRate(task, retired, initialDelayTicks, periodTicks);
+            return schedule(entity, task, retired, initialDelayTicks, periodTicks);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.scheduler;
+
+import de.crazydev22.platformutils.scheduler.task.CompletableTask;
+import de.crazydev22.platformutils.scheduler.task.ManagedTask;
+import de.crazydev22.platformutils.scheduler.task.Task;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Range;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * An {@link IAsyncScheduler} that is timed by its own wall-clock timer instead of the server tick loop,
+ * matching the semantics of Folia's async scheduler. Delays and periods keep their full precision and are not
+ * affected by server lag. Due tasks are handed from the timer thread to the given executor.
+ * <p>
+ * The scheduler shuts down once the owning plugin is disabled, if it was registered as a listener.
+ */
+@ApiStatus.Internal
+public class ExecutorAsyncScheduler implements IAsyncScheduler, Listener {
+    private final Plugin plugin;
+    private final ExecutorService executor;
+    private final ScheduledThreadPoolExecutor timer;
+
+    public ExecutorAsyncScheduler(@NotNull Plugin plugin, @NotNull ExecutorService executor) {
+        this.plugin = plugin;
+        this.executor = executor;
+        this.timer = new ScheduledThreadPoolExecutor(1, threadFactory(plugin.getName() + " Async Scheduler Timer"));
+        this.timer.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Creates an executor backed by a cached thread pool, which is what the Bukkit and Folia async schedulers use.
+     *
+     * @param plugin the plugin to name the threads after
+     * @return the executor
+     */
+    public static @NotNull ExecutorService createCachedPool(@NotNull Plugin plugin) {
+        return Executors.newCachedThreadPool(threadFactory(plugin.getName() + " Async Scheduler Thread"));
+    }
+
+    /**
+     * Creates an executor that runs every task on its own virtual thread.
+     *
+     * @param plugin the plugin to name the threads after
+     * @return the executor
+     * @throws UnsupportedOperationException if {@link AsyncMode#VIRTUAL_THREADS} is not supported
+     */
+    public static @NotNull ExecutorService createVirtualThreadPool(@NotNull Plugin plugin) {
+        return VirtualThreads.newExecutor(plugin.getName() + " Async Scheduler Virtual Thread");
+    }
+
+    @Override
+    public @NotNull <R> CompletableTask<R> run(@NotNull Function<CompletableTask<R>, R> task) {
+        var wrapped = new ManagedTask.Completable<R>(plugin, true);
+        handOff(wrapped, () -> wrapped.complete(task), false);
+        return wrapped;
+    }
+
+    @Override
+    public void execute(@NotNull Runnable task) {
+        executor.execute(task);
+    }
+
+    @Override
+    public @NotNull <R> CompletableTask<R> runDelayed(@NotNull Function<CompletableTask<R>, R> task, @Range(from = 0, to = Long.MAX_VALUE) long delay, @NotNull TimeUnit unit) {
+        var wrapped = new ManagedTask.Completable<R>(plugin, true);
+        Runnable run = () -> wrapped.complete(task);
+        wrapped.bind(timer.schedule(() -> handOff(wrapped, run, true), delay, unit));
+        return wrapped;
+    }
+
+    @Override
+    public @NotNull Task runAtFixedRate(@NotNull Consumer<Task> task, @Range(from = 0, to = Long.MAX_VALUE) long initialDelay, @Range(from = 1, to = Long.MAX_VALUE) long period, @NotNull TimeUnit unit) {
+        var wrapped = new ManagedTask(plugin, true, true);
+        Runnable run = () -> wrapped.run(task);
+        wrapped.bind(timer.scheduleAtFixedRate(() -> handOff(wrapped, run, true), initialDelay, period, unit));
+        return wrapped;
+    }
+
+    /**
+     * Hands a task over to the executor, rejecting the task if the executor does not accept it.
+     *
+     * @param task  the task
+     * @param run   the runnable running the task
+     * @param timed whether the task is handed over by the timer thread
+     */
+    protected void handOff(@NotNull ManagedTask task, @NotNull Runnable run, boolean timed) {
+        try {
+            executor.execute(run);
+        } catch (RejectedExecutionException e) {
+            task.reject(e);
+        }
+    }
+
+    /**
+     * Stops the timer and lets the executor finish the tasks that are already running.
+     */
+    public void shutdown() {
+        timer.shutdownNow();
+        executor.shutdown();
+    }
+
+    @EventHandler
+    public void onPluginDisable(PluginDisableEvent event) {
+        if (event.getPlugin() == plugin) shutdown();
+    }
+
+    static ThreadFactory threadFactory(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return r -> {
+            Thread thread = new Thread(r, name + " #" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -87,6 +87,19 @@ public interface IAsyncScheduler {
      */
     @NotNull <R> CompletableTask<R> run(@NotNull Function<CompletableTask<R>, R> task);
 
+    /**
+     * Schedules the specified task to be executed asynchronously immediately without creating a
+     * {@link Task} handle or a result future. The runnable is handed directly to the platform scheduler,
+     * so this should be preferred for fire-and-forget work that neither cancels nor awaits the task.
+     * <p>
+     * Apart from the task object of the platform scheduler, the schedulers of the platforms allocate no objects per
+     * submission on Spigot or with {@link AsyncMode#VIRTUAL_THREADS}. On Paper and Folia one adapter to the
+     * {@code Consumer} taken by their async scheduler is allocated.
+     *
+     * @param task Specified task.
+     */
+    void execute(@NotNull Runnable task);
+
     /**
      * Schedules the specified task to be executed asynchronously after the time delay has passed.
      *
@@ -0,0 +1,84 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.scheduler;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * An {@link IAsyncScheduler} that runs its tasks on a fixed number of threads with a bounded queue in front
+ * of them, instead of starting new threads for every burst of work. Once all threads are busy and the queue
+ * is full, new tasks are handled according to the {@link OverflowPolicy}.
+ * <p>
+ * Delays and periods are measured by a wall-clock timer, just like the {@link IAsyncScheduler} of Folia.
+ */
+@ApiStatus.NonExtendable
+public interface IBoundedAsyncScheduler extends IAsyncScheduler, AutoCloseable {
+
+    /**
+     * Executes the task on one of the threads of the pool.
+     *
+     * @param task the task to execute
+     * @throws RejectedExecutionException if the scheduler is closed or is full and rejects overflowing tasks
+     */
+    @Override
+    void execute(@NotNull Runnable task);
+
+    /**
+     * Returns the policy applied to tasks that do not fit into the pool and its queue.
+     *
+     * @return the overflow policy
+     */
+    @NotNull OverflowPolicy getOverflowPolicy();
+
+    /**
+     * Returns a snapshot of the statistics of the pool.
+     *
+     * @return the pool statistics
+     */
+    @NotNull PoolStatistics getStatistics();
+
+    /**
+     * Stops the timer and lets the pool finish the tasks that are already running or queued.
+     * Tasks that are still parked are rejected.
+     */
+    @Override
+    void close();
+
+    /**
+     * A snapshot of the statistics of a bounded pool.
+     *
+     * @param activeThreads the number of threads currently running a task
+     * @param poolSize      the number of threads currently alive
+     * @param queueSize     the number of tasks waiting in the bounded queue
+     * @param waiting       the number of tasks parked until there is capacity
+     * @param completed     the number of tasks the pool has finished
+     * @param rejected      the number of tasks rejected for lack of capacity
+     * @param callerRuns    the number of tasks run on the submitting thread by {@link OverflowPolicy#CALLER_RUNS}
+     */
+    record PoolStatistics(int activeThreads, int poolSize, int queueSize, int waiting,
+                          long completed, long rejected, long callerRuns) {}
+}
@@ -0,0 +1,81 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.scheduler;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A running map-reduce over all generated chunks of an area. Every chunk is loaded, handed to the mapper on the
+ * thread owning it and the mapped values are merged through the reducer. Values are merged in the order their chunks
+ * finish, so the reducer has to be commutative as well as associative.
+ * <p>
+ * On Folia the mapper runs in parallel on the threads of the regions owning the chunks. On Spigot and Paper it runs
+ * on the main thread, limited to a budget per tick. The number of chunks that are loaded at the same time is capped
+ * on all platforms.
+ *
+ * @param <T> the type of the result
+ */
+@ApiStatus.NonExtendable
+public interface IChunkScan<T> {
+
+    /**
+     * Returns the future of the reduced result. It completes exceptionally with the first exception thrown by the
+     * mapper, the reducer or a chunk load, and is cancelled once the scan is cancelled.
+     *
+     * @return the result of the scan
+     */
+    @NotNull CompletableFuture<T> getResult();
+
+    /**
+     * Returns the number of chunks in the area.
+     *
+     * @return the total number of chunks
+     */
+    long getTotal();
+
+    /**
+     * Returns the number of chunks that were mapped or skipped because they are not generated.
+     *
+     * @return the number of completed chunks
+     */
+    long getCompleted();
+
+    /**
+     * Returns the fraction of the area that was completed.
+     *
+     * @return the progress between {@code 0} and {@code 1}
+     */
+    default double getProgress() {
+        final long total = getTotal();
+        return total == 0 ? 1 : (double) getCompleted() / total;
+    }
+
+    /**
+     * Cancels the scan. Chunks that are being loaded finish loading but are no longer mapped.
+     */
+    void cancel();
+}
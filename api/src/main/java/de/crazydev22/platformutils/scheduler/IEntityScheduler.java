@@ -23,6 +23,7 @@
  */
 package de.crazydev22.platformutils.scheduler;
 
+import de.crazydev22.platformutils.scheduler.task.AdaptiveTask;
 import de.crazydev22.platformutils.scheduler.task.CompletableTask;
 import de.crazydev22.platformutils.scheduler.task.Task;
 import org.jetbrains.annotations.ApiStatus;
@@ -56,7 +57,7 @@ import java.util.function.Supplier;
 public interface IEntityScheduler {
 
     /**
-     * Schedules a task to execute on the next tick. If the task failed to schedule because the scheduler is retired (entity
+     * Schedules a task to execute as soon as possible. If the task failed to schedule because the scheduler is retired (entity
      * removed), then returns {@code null}. Otherwise, either the task callback will be invoked after the specified delay,
      * or the retired callback will be invoked if the scheduler is retired.
      * Note that the retired callback is invoked in critical code, so it should not attempt to remove the entity, remove
@@ -79,7 +80,7 @@ public interface IEntityScheduler {
     }
 
     /**
-     * Schedules a task to execute on the next tick. If the task failed to schedule because the scheduler is retired (entity
+     * Schedules a task to execute as soon as possible. If the task failed to schedule because the scheduler is retired (entity
      * removed), then returns {@code null}. Otherwise, either the task callback will be invoked after the specified delay,
      * or the retired callback will be invoked if the scheduler is retired.
      * Note that the retired callback is invoked in critical code, so it should not attempt to remove the entity, remove
@@ -102,7 +103,7 @@ public interface IEntityScheduler {
     }
 
     /**
-     * Schedules a task to execute on the next tick. If the task failed to schedule because the scheduler is retired (entity
+     * Schedules a task to execute as soon as possible. If the task failed to schedule because the scheduler is retired (entity
      * removed), then returns {@code null}. Otherwise, either the task callback will be invoked after the specified delay,
      * or the retired callback will be invoked if the scheduler is retired.
      * Note that the retired callback is invoked in critical code, so it should not attempt to remove the entity, remove
@@ -125,7 +126,7 @@ public interface IEntityScheduler {
     }
 
     /**
-     * Schedules a task to execute on the next tick. If the task failed to schedule because the scheduler is retired (entity
+     * Schedules a task to execute as soon as possible. If the task failed to schedule because the scheduler is retired (entity
      * removed), then returns {@code null}. Otherwise, either the task callback will be invoked after the specified delay,
      * or the retired callback will be invoked if the scheduler is retired.
      * Note that the retired callback is invoked in critical code, so it should not attempt to remove the entity, remove
@@ -140,11 +141,54 @@ public interface IEntityScheduler {
      * @param retired Retire callback to run if the entity is retired before the run callback can be invoked, may be null.
      * @return The {@link CompletableTask<R>} that represents the scheduled task, or {@code null} if the entity has been removed.
      */
-    default @Nullable <R> CompletableTask<R> run(@NotNull Function<CompletableTask<R>, R> task,
-                                                 @Nullable Runnable retired) {
-        return runDelayed(task, retired, 1);
+    @Nullable <R> CompletableTask<R> run(@NotNull Function<CompletableTask<R>, R> task,
+                                         @Nullable Runnable retired);
+
+    /**
+     * Schedules a task to execute as soon as possible without creating a {@link Task} handle or a result future.
+     * Either the task callback will be invoked, or the retired callback will be invoked if the scheduler is retired.
+     * Note that the retired callback is invoked in critical code, so it should not attempt to remove the entity, remove
+     * other entities, load chunks, load worlds, modify ticket levels, etc.
+     *
+     * <p>
+     * It is guaranteed that the task and retired callback are invoked on the region which owns the entity.
+     * </p>
+     *
+     * @param task    The task to execute
+     * @param retired Retire callback to run if the entity is retired before the run callback can be invoked, may be null.
+     * @return {@code true} if the task was scheduled, {@code false} if the entity has been removed.
+     */
+    default boolean execute(@NotNull Runnable task,
+                            @Nullable Runnable retired) {
+        return execute(task, retired, 1);
     }
 
+    /**
+     * Schedules a task with the given delay without creating a {@link Task} handle or a result future.
+     * Either the task callback will be invoked after the specified delay, or the retired callback will be invoked
+     * if the scheduler is retired.
+     * Note that the retired callback is invoked in critical code, so it should not attempt to remove the entity, remove
+     * other entities, load chunks, load worlds, modify ticket levels, etc.
+     *
+     * <p>
+     * It is guaranteed that the task and retired callback are invoked on the region which owns the entity.
+     * </p>
+     *
+     * <p>
+     * Apart from the task object of the platform scheduler, the schedulers of the platforms allocate no objects per
+     * submission on Paper and Folia. On Spigot two objects are allocated, the execution that checks the entity and
+     * claims the task against its retirement, and its entry in the tasks tracked for the entity.
+     * </p>
+     *
+     * @param task       The task to execute
+     * @param retired    Retire callback to run if the entity is retired before the run callback can be invoked, may be null.
+     * @param delayTicks The delay, in ticks.
+     * @return {@code true} if the task was scheduled, {@code false} if the entity has been removed.
+     */
+    boolean execute(@NotNull Runnable task,
+                    @Nullable Runnable retired,
+                    @Range(from = 1, to = Long.MAX_VALUE) long delayTicks);
+
     /**
      * Schedules a task with the given delay. If the task failed to schedule because the scheduler is retired (entity
      * removed), then returns {@code null}. Otherwise, either the task callback will be invoked after the specified delay,
@@ -286,4 +330,33 @@ public interface IEntityScheduler {
                                   @Nullable Runnable retired,
                                   @Range(from = 1, to = Long.MAX_VALUE) long initialDelayTicks,
                                   @Range(from = 1, to = Long.MAX_VALUE) long periodTicks);
+
+    /**
+     * Schedules a repeating task whose period adapts to the load of the region which owns the entity. The period
+     * starts at the minimum, grows towards the maximum while ticks take too long and shrinks again once the load
+     * drops. If the task failed to schedule because the scheduler is retired (entity removed), then returns
+     * {@code null}. Otherwise, either the task callback will be invoked after each period, or the retired callback
+     * will be invoked if the scheduler is retired.
+     *
+     * @param task              The task to execute
+     * @param retired           Retire callback to run if the entity is retired before the run callback can be invoked, may be null.
+     * @param initialDelayTicks The initial delay, in ticks.
+     * @param minPeriodTicks    The period while the region is not under load, in ticks.
+     * @param maxPeriodTicks    The period to back off to at most, in ticks.
+     * @return The {@link AdaptiveTask} that represents the scheduled task, or {@code null} if the entity has been removed.
+     */
+    default @Nullable AdaptiveTask runAdaptive(@NotNull Consumer<AdaptiveTask> task,
+                                               @Nullable Runnable retired,
+                                               @Range(from = 1, to = Long.MAX_VALUE) long initialDelayTicks,
+                                               @Range(from = 1, to = Long.MAX_VALUE) long minPeriodTicks,
+                                               @Range(from = 1, to = Long.MAX_VALUE) long maxPeriodTicks) {
+        final AdaptiveRepeatingTask.Delayed delayed = (run, retire, delay) -> runDelayed(t -> {
+            run.accept(t);
+            return null;
+        }, retired == null ? retire : () -> {
+            retire.run();
+            retired.run();
+        }, delay);
+        return AdaptiveRepeatingTask.start(delayed, task, initialDelayTicks, minPeriodTicks, maxPeriodTicks);
+    }
 }
@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.scheduler;
+
+import org.bukkit.entity.Entity;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Drives repeating entity tasks from shared region tasks instead of one platform task per entity. Repeating tasks
+ * are put into a bucket per region section and period, each bucket is run by a single repeating task on the region
+ * scheduler. Once an entity leaves the region of its bucket its tasks are moved to the bucket of its new location.
+ * <p>
+ * Each repeating task still gets its own {@link de.crazydev22.platformutils.scheduler.task.Task}. The first run of a
+ * task is rounded up to the next run of its bucket, so the initial delay is only honoured to within one period.
+ */
+@ApiStatus.NonExtendable
+public interface IEntityTicker extends AutoCloseable {
+
+    /**
+     * Returns an entity scheduler whose repeating tasks are run from the shared region tasks. All other tasks are
+     * handed to the {@link de.crazydev22.platformutils.Platform#getEntityScheduler(Entity) entity scheduler} of the
+     * platform.
+     * <p>
+     * The retired callback of a repeating task is invoked once its entity is found removed by the next run of its
+     * bucket. Players keep their tasks across death and only retire them once they quit.
+     *
+     * @param entity the entity
+     * @return the entity scheduler
+     */
+    @NotNull IEntityScheduler getEntityScheduler(@NotNull Entity entity);
+
+    /**
+     * Returns the number of region tasks currently shared by the repeating entity tasks.
+     *
+     * @return the number of buckets
+     */
+    int getBucketCount();
+
+    /**
+     * Returns the number of repeating entity tasks that have neither been cancelled nor retired.
+     *
+     * @return the number of active tasks
+     */
+    long getTaskCount();
+
+    /**
+     * Stops bucketing. Tasks scheduled afterward get their own platform task, already scheduled tasks keep running
+     * until they are cancelled or their entity is removed.
+     */
+    @Override
+    void close();
+}
@@ -23,12 +23,14 @@
  */
 package de.crazydev22.platformutils.scheduler;
 
+import de.crazydev22.platformutils.scheduler.task.AdaptiveTask;
 import de.crazydev22.platformutils.scheduler.task.CompletableTask;
 import de.crazydev22.platformutils.scheduler.task.Task;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Range;
 
+import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -43,7 +45,7 @@ import java.util.function.Supplier;
 @ApiStatus.NonExtendable
 public interface IGlobalScheduler {
     /**
-     * Schedules a task to be executed on the global region on the next tick.
+     * Schedules a task to be executed on the global region as soon as possible.
      *
      * @param task The task to execute
      * @return The {@link CompletableTask<Void>} that represents the scheduled task.
@@ -56,7 +58,7 @@ public interface IGlobalScheduler {
     }
 
     /**
-     * Schedules a task to be executed on the global region on the next tick.
+     * Schedules a task to be executed on the global region as soon as possible.
      *
      * @param task The task to execute
      * @return The {@link Task} that represents the scheduled task.
@@ -69,7 +71,7 @@ public interface IGlobalScheduler {
     }
 
     /**
-     * Schedules a task to be executed on the global region on the next tick.
+     * Schedules a task to be executed on the global region as soon as possible.
      *
      * @param <R>  Return type
      * @param task The task to execute
@@ -82,15 +84,27 @@ public interface IGlobalScheduler {
     }
 
     /**
-     * Schedules a task to be executed on the global region on the next tick.
+     * Schedules a task to be executed on the global region as soon as possible.
+     * Unlike {@link #runDelayed(Function, long)} this uses the immediate path of the platform scheduler,
+     * so the task is never held back longer than the platform requires.
      *
      * @param <R>  Return type
      * @param task The task to execute
      * @return The {@link CompletableTask<R>} that represents the scheduled task.
      */
-    default @NotNull <R> CompletableTask<R> run(@NotNull Function<CompletableTask<R>, R> task) {
-        return runDelayed(task, 1);
-    }
+    @NotNull <R> CompletableTask<R> run(@NotNull Function<CompletableTask<R>, R> task);
+
+    /**
+     * Schedules a task to be executed on the global region as soon as possible without creating a
+     * {@link Task} handle or a result future. The runnable is handed directly to the platform scheduler,
+     * so this should be preferred for fire-and-forget work that neither cancels nor awaits the task.
+     * <p>
+     * Apart from the task object of the platform scheduler, the schedulers of the platforms allocate no objects per
+     * submission on Spigot, Paper and Folia.
+     *
+     * @param task The task to execute
+     */
+    void execute(@NotNull Runnable task);
 
     /**
      * Schedules a task to be executed on the global region after the specified delay in ticks.
@@ -175,4 +189,26 @@ public interface IGlobalScheduler {
     @NotNull Task runAtFixedRate(@NotNull Consumer<Task> task,
                                  @Range(from = 1, to = Long.MAX_VALUE) long initialDelayTicks,
                                  @Range(from = 1, to = Long.MAX_VALUE) long periodTicks);
+
+    /**
+     * Schedules a repeating task to be executed on the global region whose period adapts to the load of the server.
+     * The period starts at the minimum, grows towards the maximum while ticks take too long and shrinks again once
+     * the load drops. This should be preferred for periodic work that may run less often under load.
+     *
+     * @param task              The task to execute
+     * @param initialDelayTicks The initial delay, in ticks.
+     * @param minPeriodTicks    The period while the server is not under load, in ticks.
+     * @param maxPeriodTicks    The period to back off to at most, in ticks.
+     * @return The {@link AdaptiveTask} that represents the scheduled task.
+     */
+    default @NotNull AdaptiveTask runAdaptive(@NotNull Consumer<AdaptiveTask> task,
+                                              @Range(from = 1, to = Long.MAX_VALUE) long initialDelayTicks,
+                                              @Range(from = 1, to = Long.MAX_VALUE) long minPeriodTicks,
+                                              @Range(from = 1, to = Long.MAX_VALUE) long maxPeriodTicks) {
+        final AdaptiveRepeatingTask.Delayed delayed = (run, retire, delay) -> runDelayed(t -> {
+            run.accept(t);
+            return null;
+        }, delay);
+        return Objects.requireNonNull(AdaptiveRepeatingTask.start(delayed, task, initialDelayTicks, minPeriodTicks, maxPeriodTicks));
+    }
 }
@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.scheduler;
+
+import org.bukkit.entity.Entity;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+
+/**
+ * Spreads repeating tasks with the same period evenly across the ticks of that period, so that hundreds of tasks
+ * registered at once, like one per arena, do not all run in the same tick.
+ * <p>
+ * The schedulers returned by this spreader only differ from the ones of the platform in
+ * {@code runAtFixedRate}. The initial delay of a repeating task is extended until the task lands on the phase of
+ * its period with the fewest tasks, so a task never runs earlier than requested. Phases are counted on a
+ * single tick counter shared by all schedulers of this spreader.
+ */
+@ApiStatus.NonExtendable
+public interface IPhaseSpreader extends AutoCloseable {
+
+    /**
+     * Returns a global scheduler whose repeating tasks are spread across the phases of their period.
+     *
+     * @return the spreading global scheduler
+     */
+    @NotNull IGlobalScheduler getGlobalScheduler();
+
+    /**
+     * Returns a region scheduler whose repeating tasks are spread across the phases of their period.
+     *
+     * @return the spreading region scheduler
+     */
+    @NotNull IRegionScheduler getRegionScheduler();
+
+    /**
+     * Returns an entity scheduler whose repeating tasks are spread across the phases of their period.
+     *
+     * @param entity the entity to schedule tasks for
+     * @return the spreading entity scheduler
+     */
+    @NotNull IEntityScheduler getEntityScheduler(@NotNull Entity entity);
+
+    /**
+     * Returns the number of active repeating tasks assigned to each phase, keyed by their period in ticks.
+     * The array of a period holds one entry per tick of that period.
+     *
+     * @return a snapshot of the phase distribution
+     */
+    @NotNull Map<Long, int[]> getDistribution();
+
+    /**
+     * Stops counting ticks. Tasks scheduled afterward are no longer spread, already scheduled tasks keep running.
+     */
+    @Override
+    void close();
+}
@@ -28,6 +28,7 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executors;
@@ -87,6 +88,16 @@ public interface IRegionExecutor extends AutoCloseable {
      */
     <T> CompletableFuture<T> queue(@NotNull World world, int chunkX, int chunkZ, @NotNull Callable<T> callable);
 
+    /**
+     * Returns a snapshot of the budget usage of every region section this executor currently has a queue for.
+     * Platforms without regions return an empty list.
+     *
+     * @return the statistics per region section
+     */
+    default @NotNull List<RegionStatistics> getStatistics() {
+        return List.of();
+    }
+
     /**
      * Creates a {@link Runnable} that completes the provided {@link CompletableFuture} with
      * the result of the given {@link Callable}. If the {@link Callable} throws an exception,
@@ -107,4 +118,28 @@ public interface IRegionExecutor extends AutoCloseable {
             }
         };
     }
+
+    /**
+     * A snapshot of the budget usage of the queue of a single region section.
+     *
+     * @param world      the world of the section
+     * @param chunkX     the X coordinate of the chunk the queue is scheduled at
+     * @param chunkZ     the Z coordinate of the chunk the queue is scheduled at
+     * @param ticks      the number of region ticks the queue ran in
+     * @param budgetTime the accumulated time in nanoseconds the queue was granted
+     * @param usedTime   the accumulated time in nanoseconds the queue spent running tasks
+     * @param exhausted  the number of region ticks the queue ran out of time with tasks left
+     */
+    record RegionStatistics(@NotNull World world, int chunkX, int chunkZ, long ticks, long budgetTime, long usedTime,
+                            long exhausted) {
+
+        /**
+         * Returns the fraction of the granted time the queue spent running tasks.
+         *
+         * @return the usage, or {@code 0} if no time was granted yet
+         */
+        public double usage() {
+            return budgetTime == 0 ? 0 : (double) usedTime / budgetTime;
+        }
+    }
 }
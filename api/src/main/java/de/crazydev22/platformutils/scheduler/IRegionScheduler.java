@@ -24,6 +24,7 @@
 package de.crazydev22.platformutils.scheduler;
 
 import de.crazydev22.platformutils.Platform;
+import de.crazydev22.platformutils.scheduler.task.AdaptiveTask;
 import de.crazydev22.platformutils.scheduler.task.CompletableTask;
 import de.crazydev22.platformutils.scheduler.task.Task;
 import org.bukkit.Location;
@@ -33,6 +34,7 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Range;
 
+import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -49,7 +51,7 @@ import java.util.function.Supplier;
 @ApiStatus.NonExtendable
 public interface IRegionScheduler {
     /**
-     * Schedules a task to be executed on the region which owns the location on the next tick.
+     * Schedules a task to be executed on the region which owns the location as soon as possible.
      *
      * @param world  The world of the region that owns the task
      * @param chunkX The chunk X coordinate of the region that owns the task
@@ -68,7 +70,7 @@ public interface IRegionScheduler {
     }
 
     /**
-     * Schedules a task to be executed on the region which owns the location on the next tick.
+     * Schedules a task to be executed on the region which owns the location as soon as possible.
      *
      * @param world  The world of the region that owns the task
      * @param chunkX The chunk X coordinate of the region that owns the task
@@ -87,7 +89,7 @@ public interface IRegionScheduler {
     }
 
     /**
-     * Schedules a task to be executed on the region which owns the location on the next tick.
+     * Schedules a task to be executed on the region which owns the location as soon as possible.
      *
      * @param <R>    Return type
      * @param world  The world of the region that owns the task
@@ -106,7 +108,8 @@ public interface IRegionScheduler {
     }
 
     /**
-     * Schedules a task to be executed on the region which owns the location on the next tick.
+     * Schedules a task to be executed on the region which owns the location as soon as possible.
+     * On Folia a task submitted while the region is ticking still runs within the same tick.
      *
      * @param <R>    Return type
      * @param world  The world of the region that owns the task
@@ -115,15 +118,13 @@ public interface IRegionScheduler {
      * @param task   The task to execute
      * @return The {@link CompletableTask<R>} that represents the scheduled task.
      */
-    default @NotNull <R> CompletableTask<R> run(@NotNull World world,
-                                                int chunkX,
-                                                int chunkZ,
-                                                @NotNull Function<CompletableTask<R>, R> task) {
-        return runDelayed(world, chunkX, chunkZ, task, 1);
-    }
+    @NotNull <R> CompletableTask<R> run(@NotNull World world,
+                                        int chunkX,
+                                        int chunkZ,
+                                        @NotNull Function<CompletableTask<R>, R> task);
 
     /**
-     * Schedules a task to be executed on the region which owns the location on the next tick.
+     * Schedules a task to be executed on the region which owns the location as soon as possible.
      *
      * @param location The location at which the region executing should own
      * @param task     The task to execute
@@ -135,7 +136,7 @@ public interface IRegionScheduler {
     }
 
     /**
-     * Schedules a task to be executed on the region which owns the location on the next tick.
+     * Schedules a task to be executed on the region which owns the location as soon as possible.
      *
      * @param location The location at which the region executing should own
      * @param task     The task to execute
@@ -149,7 +150,7 @@ public interface IRegionScheduler {
     }
 
     /**
-     * Schedules a task to be executed on the region which owns the location on the next tick.
+     * Schedules a task to be executed on the region which owns the location as soon as possible.
      *
      * @param <R>      Return type
      * @param location The location at which the region executing should own
@@ -164,7 +165,7 @@ public interface IRegionScheduler {
     }
 
     /**
-     * Schedules a task to be executed on the region which owns the location on the next tick.
+     * Schedules a task to be executed on the region which owns the location as soon as possible.
      *
      * @param <R>      Return type
      * @param location The location at which the region executing should own
@@ -176,6 +177,33 @@ public interface IRegionScheduler {
         return run(location.getWorld(), location.getBlockX() >> 4, location.getBlockZ() >> 4, task);
     }
 
+    /**
+     * Schedules a task to be executed on the region which owns the location as soon as possible without creating a
+     * {@link Task} handle or a result future. The runnable is handed directly to the platform scheduler,
+     * so this should be preferred for fire-and-forget work that neither cancels nor awaits the task.
+     * <p>
+     * Apart from the task object of the platform scheduler, the schedulers of the platforms allocate no objects per
+     * submission on Spigot, Paper and Folia.
+     *
+     * @param world  The world of the region that owns the task
+     * @param chunkX The chunk X coordinate of the region that owns the task
+     * @param chunkZ The chunk Z coordinate of the region that owns the task
+     * @param task   The task to execute
+     */
+    void execute(@NotNull World world, int chunkX, int chunkZ, @NotNull Runnable task);
+
+    /**
+     * Schedules a task to be executed on the region which owns the location as soon as possible without creating a
+     * {@link Task} handle or a result future.
+     *
+     * @param location The location at which the region executing should own
+     * @param task     The task to execute
+     * @see #execute(World, int, int, Runnable)
+     */
+    default void execute(@NotNull Location location, @NotNull Runnable task) {
+        execute(location.getWorld(), location.getBlockX() >> 4, location.getBlockZ() >> 4, task);
+    }
+
     /**
      * Schedules a task to be executed on the region which owns the location after the specified delay in ticks.
      *
@@ -358,4 +386,50 @@ public interface IRegionScheduler {
                                          @Range(from = 1, to = Long.MAX_VALUE) long periodTicks) {
         return runAtFixedRate(location.getWorld(), location.getBlockX() >> 4, location.getBlockZ() >> 4, task, initialDelayTicks, periodTicks);
     }
+
+    /**
+     * Schedules a repeating task to be executed on the region which owns the location at the specified chunk
+     * coordinates whose period adapts to the load of the region. The period starts at the minimum, grows towards the
+     * maximum while ticks take too long and shrinks again once the load drops.
+     *
+     * @param world             The world of the region that owns the task
+     * @param chunkX            The chunk X coordinate of the region that owns the task
+     * @param chunkZ            The chunk Z coordinate of the region that owns the task
+     * @param task              The task to execute
+     * @param initialDelayTicks The initial delay, in ticks.
+     * @param minPeriodTicks    The period while the region is not under load, in ticks.
+     * @param maxPeriodTicks    The period to back off to at most, in ticks.
+     * @return The {@link AdaptiveTask} that represents the scheduled task.
+     */
+    default @NotNull AdaptiveTask runAdaptive(@NotNull World world, int chunkX, int chunkZ,
+                                              @NotNull Consumer<AdaptiveTask> task,
+                                              @Range(from = 1, to = Long.MAX_VALUE) long initialDelayTicks,
+                                              @Range(from = 1, to = Long.MAX_VALUE) long minPeriodTicks,
+                                              @Range(from = 1, to = Long.MAX_VALUE) long maxPeriodTicks) {
+        final AdaptiveRepeatingTask.Delayed delayed = (run, retire, delay) -> runDelayed(world, chunkX, chunkZ, t -> {
+            run.accept(t);
+            return null;
+        }, delay);
+        return Objects.requireNonNull(AdaptiveRepeatingTask.start(delayed, task, initialDelayTicks, minPeriodTicks, maxPeriodTicks));
+    }
+
+    /**
+     * Schedules a repeating task to be executed on the region which owns the location whose period adapts to the
+     * load of the region. The period starts at the minimum, grows towards the maximum while ticks take too long and
+     * shrinks again once the load drops.
+     *
+     * @param location          The location at which the region executing should own
+     * @param task              The task to execute
+     * @param initialDelayTicks The initial delay, in ticks.
+     * @param minPeriodTicks    The period while the region is not under load, in ticks.
+     * @param maxPeriodTicks    The period to back off to at most, in ticks.
+     * @return The {@link AdaptiveTask} that represents the scheduled task.
+     */
+    default @NotNull AdaptiveTask runAdaptive(@NotNull Location location,
+                                              @NotNull Consumer<AdaptiveTask> task,
+                                              @Range(from = 1, to = Long.MAX_VALUE) long initialDelayTicks,
+                                              @Range(from = 1, to = Long.MAX_VALUE) long minPeriodTicks,
+                                              @Range(from = 1, to = Long.MAX_VALUE) long maxPeriodTicks) {
+        return runAdaptive(location.getWorld(), location.getBlockX() >> 4, location.getBlockZ() >> 4, task, initialDelayTicks, minPeriodTicks, maxPeriodTicks);
+    }
 }
@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.scheduler;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Multiplexes large numbers of repeating tasks onto few platform tasks. Repeating tasks with the same period that
+ * run in the same tick on the same owner, either the global region or the same region, share a single platform
+ * task that runs all of them in turn.
+ * <p>
+ * Each repeating task still gets its own {@link de.crazydev22.platformutils.scheduler.task.Task} with its own
+ * execution state. Cancelling it takes constant time, the shared task skips it from then on and sweeps it out
+ * once enough tasks were cancelled.
+ */
+@ApiStatus.NonExtendable
+public interface ITaskMultiplexer extends AutoCloseable {
+
+    /**
+     * Returns a global scheduler whose repeating tasks are multiplexed.
+     *
+     * @return the multiplexing global scheduler
+     */
+    @NotNull IGlobalScheduler getGlobalScheduler();
+
+    /**
+     * Returns a region scheduler whose repeating tasks are multiplexed. Tasks are only grouped with tasks of chunks
+     * in the same region section, which is never split across regions.
+     *
+     * @return the multiplexing region scheduler
+     */
+    @NotNull IRegionScheduler getRegionScheduler();
+
+    /**
+     * Returns the number of platform tasks currently shared by the multiplexed tasks.
+     *
+     * @return the number of shared tasks
+     */
+    int getGroupCount();
+
+    /**
+     * Returns the number of multiplexed tasks that have not been cancelled.
+     *
+     * @return the number of active tasks
+     */
+    long getTaskCount();
+
+    /**
+     * Stops multiplexing. Tasks scheduled afterward get their own platform task, already scheduled tasks keep
+     * running until they are cancelled.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,107 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.scheduler;
+
+import org.bukkit.entity.Entity;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * A group of related tasks that can be cancelled together, like all tasks of a player session or a minigame arena.
+ * Tasks are attached to the scope by scheduling them through the schedulers of the scope, which forward them to the
+ * schedulers of the platform.
+ * <p>
+ * Every task remembers the generation of the scope it was scheduled in. {@link #cancel()} starts a new generation,
+ * which invalidates all earlier tasks at once without keeping track of them. Invalidated tasks are skipped once
+ * they become due: tasks with a result complete with a {@link CancellationException}, repeating tasks cancel
+ * themselves and retired callbacks are not invoked.
+ * <p>
+ * When the plugin is disabled every scope is closed and waits for its running tasks up to its drain timeout.
+ */
+@ApiStatus.NonExtendable
+public interface ITaskScope extends AutoCloseable {
+
+    /**
+     * Returns a global scheduler whose tasks are attached to this scope.
+     *
+     * @return the scoped global scheduler
+     * @see de.crazydev22.platformutils.Platform#getGlobalScheduler()
+     */
+    @NotNull IGlobalScheduler getGlobalScheduler();
+
+    /**
+     * Returns a region scheduler whose tasks are attached to this scope.
+     *
+     * @return the scoped region scheduler
+     * @see de.crazydev22.platformutils.Platform#getRegionScheduler()
+     */
+    @NotNull IRegionScheduler getRegionScheduler();
+
+    /**
+     * Returns an async scheduler whose tasks are attached to this scope.
+     *
+     * @return the scoped async scheduler
+     * @see de.crazydev22.platformutils.Platform#getAsyncScheduler()
+     */
+    @NotNull IAsyncScheduler getAsyncScheduler();
+
+    /**
+     * Returns a scheduler for the entity whose tasks are attached to this scope.
+     *
+     * @param entity entity to get the scheduler for
+     * @return the scoped entity scheduler
+     * @see de.crazydev22.platformutils.Platform#getEntityScheduler(Entity)
+     */
+    @NotNull IEntityScheduler getEntityScheduler(@NotNull Entity entity);
+
+    /**
+     * Invalidates every task scheduled through this scope so far. Tasks that are already running finish normally.
+     * The scope stays usable, tasks scheduled afterward belong to the new generation.
+     */
+    void cancel();
+
+    /**
+     * Returns the number of tasks of this scope that are currently running.
+     *
+     * @return the number of running tasks
+     */
+    int getRunningCount();
+
+    /**
+     * Returns whether this scope was closed.
+     *
+     * @return true if the scope is closed
+     */
+    boolean isClosed();
+
+    /**
+     * Invalidates every task of this scope and closes it. Scheduling further tasks through the scope
+     * throws a {@link RejectedExecutionException}.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,112 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.scheduler;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * An {@link Executor} that runs its tasks on the global region. Instead of scheduling one platform task per
+ * submission, all submissions are collected in lock-free queues that are drained by a single repeating task
+ * once per tick. Tasks that do not fit into the per-tick time budget are carried over to the next tick.
+ * <p>
+ * Tasks are separated into {@link TaskPriority priority lanes}. Higher lanes are always drained first, but each
+ * lower lane that has work queued is guaranteed a minimum share of the budget so it cannot starve.
+ */
+@ApiStatus.NonExtendable
+public interface ITickExecutor extends Executor, AutoCloseable {
+
+    /**
+     * Queues the task in the {@link TaskPriority#NORMAL} lane.
+     *
+     * @param command the task to execute
+     * @throws RejectedExecutionException if the executor is closed
+     */
+    @Override
+    default void execute(@NotNull Runnable command) {
+        execute(TaskPriority.NORMAL, command);
+    }
+
+    /**
+     * Queues the task in the given lane to be executed on the global region.
+     *
+     * @param priority the lane to queue the task in
+     * @param command  the task to execute
+     * @throws RejectedExecutionException if the executor is closed
+     */
+    void execute(@NotNull TaskPriority priority, @NotNull Runnable command);
+
+    /**
+     * Returns the number of tasks that have been submitted but not yet executed across all lanes.
+     *
+     * @return the current queue depth
+     */
+    int getQueueSize();
+
+    /**
+     * Returns the number of tasks that have been submitted to the given lane but not yet executed.
+     *
+     * @param priority the lane
+     * @return the current queue depth of the lane
+     */
+    int getQueueSize(@NotNull TaskPriority priority);
+
+    /**
+     * Returns a snapshot of the statistics of the given lane.
+     *
+     * @param priority the lane
+     * @return the lane statistics
+     */
+    @NotNull LaneStatistics getStatistics(@NotNull TaskPriority priority);
+
+    /**
+     * Stops accepting new tasks. Tasks that are already queued are still executed,
+     * after which the underlying repeating task is cancelled.
+     */
+    @Override
+    void close();
+
+    /**
+     * A snapshot of the statistics of a single lane.
+     *
+     * @param queueSize     the number of tasks waiting in the lane
+     * @param executed      the number of tasks executed from the lane
+     * @param totalWaitTime the accumulated time in nanoseconds executed tasks spent waiting in the lane
+     * @param maxWaitTime   the longest time in nanoseconds a task spent waiting in the lane
+     */
+    record LaneStatistics(int queueSize, long executed, long totalWaitTime, long maxWaitTime) {
+
+        /**
+         * Returns the average time in nanoseconds executed tasks spent waiting in the lane.
+         *
+         * @return the average wait time, or {@code 0} if no task was executed yet
+         */
+        public long averageWaitTime() {
+            return executed == 0 ? 0 : totalWaitTime / executed;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.scheduler;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A timer service for large numbers of delayed tasks, like cooldowns and timeouts. Instead of scheduling one
+ * platform task per delay, all delays are kept in hierarchical timing wheels, which schedule and cancel in
+ * constant time. Only a single platform task and a single timer thread drive the wheels.
+ * <p>
+ * Tick based delays run on the global region, millisecond based delays are measured by a wall-clock timer and
+ * run on the async scheduler of the platform. Both are exposed through the regular scheduler interfaces, so
+ * the returned tasks behave exactly like the ones of the platform schedulers.
+ */
+@ApiStatus.NonExtendable
+public interface ITimerService extends AutoCloseable {
+
+    /**
+     * Returns a global scheduler whose delayed and repeating tasks are kept in a tick based timing wheel.
+     * Due tasks run on the global region during the tick they are due in.
+     *
+     * @return the tick based scheduler
+     */
+    @NotNull IGlobalScheduler getGlobalScheduler();
+
+    /**
+     * Returns an async scheduler whose delayed and repeating tasks are kept in a millisecond based timing wheel.
+     * Due tasks are handed to the async scheduler of the platform, tasks without a delay are handed over directly.
+     *
+     * @return the millisecond based scheduler
+     */
+    @NotNull IAsyncScheduler getAsyncScheduler();
+
+    /**
+     * Returns the number of timers that have been scheduled and did not run or get cancelled yet.
+     * Repeating tasks count as pending until they are cancelled.
+     *
+     * @return the number of pending timers
+     */
+    long getPendingCount();
+
+    /**
+     * Stops both timing wheels and cancels every pending timer.
+     */
+    @Override
+    void close();
+}
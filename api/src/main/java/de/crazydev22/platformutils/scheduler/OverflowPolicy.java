@@ -0,0 +1,48 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.scheduler;
+
+/**
+ * Decides what a {@link IBoundedAsyncScheduler} does with a task once all of its threads are busy
+ * and its queue is full.
+ */
+public enum OverflowPolicy {
+    /**
+     * Rejects the task. {@link IBoundedAsyncScheduler#execute(Runnable)} throws a
+     * {@link java.util.concurrent.RejectedExecutionException}, tasks with a result are cancelled and their
+     * result completes exceptionally with it, and runs of repeating tasks are skipped.
+     */
+    REJECT,
+    /**
+     * Runs the task on the thread that submitted it. Delayed and repeating tasks are handed over by the timer
+     * thread, which must not be held up, so they are parked like with {@link #WAIT} instead.
+     */
+    CALLER_RUNS,
+    /**
+     * Parks the task until a thread becomes free. Submitting never blocks, the result of the task only
+     * completes once it could run. At most as many tasks as the threads and the queue can hold are parked,
+     * further tasks are rejected like with {@link #REJECT}.
+     */
+    WAIT
+}
@@ -0,0 +1,301 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.scheduler;
+
+import de.crazydev22.platformutils.Platform;
+import de.crazydev22.platformutils.scheduler.task.CompletableTask;
+import de.crazydev22.platformutils.scheduler.task.Task;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Platform independent implementation of {@link IPhaseSpreader} that decorates the schedulers of the platform.
+ * <p>
+ * A repeating task on the global scheduler counts the ticks. The phase of a task is the tick it first runs in
+ * modulo its period, a task frees its phase once it is cancelled or its entity is retired.
+ */
+@ApiStatus.Internal
+public final class PhaseSpreader implements IPhaseSpreader {
+    /**
+     * The longest period in ticks that is spread, tasks with longer periods are scheduled unchanged.
+     */
+    public static final long MAX_PERIOD = 1200;
+
+    private final Map<Long, int[]> phases = new HashMap<>();
+    private final Platform platform;
+    private final IGlobalScheduler global;
+    private final IRegionScheduler region;
+    private final Task counter;
+    private volatile long tick;
+    private volatile boolean closed;
+
+    public PhaseSpreader(@NotNull Platform platform) {
+        this.platform = platform;
+        this.global = new Global(platform.getGlobalScheduler());
+        this.region = new Region(platform.getRegionScheduler());
+        this.counter = platform.getGlobalScheduler().runAtFixedRate(t -> tick++, 1, 1);
+    }
+
+    @Override
+    public @NotNull IGlobalScheduler getGlobalScheduler() {
+        return global;
+    }
+
+    @Override
+    public @NotNull IRegionScheduler getRegionScheduler() {
+        return region;
+    }
+
+    @Override
+    public @NotNull IEntityScheduler getEntityScheduler(@NotNull Entity entity) {
+        return new EntitySpread(platform.getEntityScheduler(entity));
+    }
+
+    @Override
+    public synchronized @NotNull Map<Long, int[]> getDistribution() {
+        var copy = new HashMap<Long, int[]>(phases.size());
+        phases.forEach((period, counts) -> copy.put(period, counts.clone()));
+        return copy;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        counter.cancel();
+    }
+
+    /**
+     * Assigns the phase with the fewest tasks to a new task, preferring the phase it would run in without spreading
+     * and then the ones after it.
+     *
+     * @param initialDelay the requested initial delay in ticks
+     * @param period       the period in ticks
+     * @return the handle of the task, or {@code null} if the period is not spread
+     */
+    private synchronized @Nullable Spread spread(long initialDelay, long period) {
+        if (closed || period <= 1 || period > MAX_PERIOD) return null;
+        final int[] counts = phases.computeIfAbsent(period, p -> new int[p.intValue()]);
+        final int natural = (int) ((tick + initialDelay) % period);
+        int best = 0;
+        for (int offset = 1; offset < counts.length && counts[(natural + best) % counts.length] > 0; offset++) {
+            if (counts[(natural + offset) % counts.length] < counts[(natural + best) % counts.length]) best = offset;
+        }
+        final int phase = (natural + best) % counts.length;
+        counts[phase]++;
+        return new Spread(period, phase, initialDelay + best);
+    }
+
+    private synchronized void release(long period, int phase) {
+        phases.get(period)[phase]--;
+    }
+
+    /**
+     * The handle of a spread task. It frees the phase of the task once the task is cancelled.
+     */
+    private final class Spread implements Task {
+        private final AtomicBoolean released = new AtomicBoolean();
+        private final long period;
+        private final int phase;
+        private final long delay;
+        private volatile Task delegate;
+
+        private Spread(long period, int phase, long delay) {
+            this.period = period;
+            this.phase = phase;
+            this.delay = delay;
+        }
+
+        private Consumer<Task> wrap(Consumer<Task> task) {
+            return t -> {
+                bind(t);
+                task.accept(this);
+            };
+        }
+
+        private Runnable wrap(@Nullable Runnable retired) {
+            return () -> {
+                release();
+                if (retired != null) retired.run();
+            };
+        }
+
+        private @Nullable Task bind(@Nullable Task task) {
+            if (task == null) {
+                release();
+                return null;
+            }
+            if (delegate == null) delegate = task;
+            return this;
+        }
+
+        private void release() {
+            if (!released.getAndSet(true)) PhaseSpreader.this.release(period, phase);
+        }
+
+        @Override
+        public @NotNull Plugin getOwner() {
+            return delegate.getOwner();
+        }
+
+        @Override
+        public boolean isRepeating() {
+            return true;
+        }
+
+        @Override
+        public boolean isAsync() {
+            return false;
+        }
+
+        @Override
+        public @NotNull CancelledState cancel() {
+            final CancelledState state = delegate.cancel();
+            if (state == CancelledState.CANCELLED_BY_CALLER || state == CancelledState.NEXT_RUNS_CANCELLED) release();
+            return state;
+        }
+
+        @Override
+        public @NotNull ExecutionState getExecutionState() {
+            return delegate.getExecutionState();
+        }
+    }
+
+    private final class Global implements IGlobalScheduler {
+        private final IGlobalScheduler delegate;
+
+        private Global(IGlobalScheduler delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public @NotNull <R> CompletableTask<R> run(@NotNull Function<CompletableTask<R>, R> task) {
+            return delegate.run(task);
+        }
+
+        @Override
+        public void execute(@NotNull Runnable task) {
+            delegate.execute(task);
+        }
+
+        @Override
+        public @NotNull <R> CompletableTask<R> runDelayed(@NotNull Function<CompletableTask<R>, R> task,
+                                                          @Range(from = 1, to = Long.MAX_VALUE) long delayTicks) {
+            return delegate.runDelayed(task, delayTicks);
+        }
+
+        @Override
+        public @NotNull Task runAtFixedRate(@NotNull Consumer<Task> task,
+                                            @Range(from = 1, to = Long.MAX_VALUE) long initialDelayTicks,
+                                            @Range(from = 1, to = Long.MAX_VALUE) long periodTicks) {
+            final Spread spread = spread(initialDelayTicks, periodTicks);
+            if (spread == null) return delegate.runAtFixedRate(task, initialDelayTicks, periodTicks);
+            return Objects.requireNonNull(spread.bind(delegate.runAtFixedRate(spread.wrap(task), spread.delay, periodTicks)));
+        }
+    }
+
+    private final class Region implements IRegionScheduler {
+        private final IRegionScheduler delegate;
+
+        private Region(IRegionScheduler delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public @NotNull <R> CompletableTask<R> run(@NotNull World world, int chunkX, int chunkZ,
+                                                   @NotNull Function<CompletableTask<R>, R> task) {
+            return delegate.run(world, chunkX, chunkZ, task);
+        }
+
+        @Override
+        public void execute(@NotNull World world, int chunkX, int chunkZ, @NotNull Runnable task) {
+            delegate.execute(world, chunkX, chunkZ, task);
+        }
+
+        @Override
+        public @NotNull <R> CompletableTask<R> runDelayed(@NotNull World world, int chunkX, int chunkZ,
+                                                          @NotNull Function<CompletableTask<R>, R> task,
+                                                          @Range(from = 1, to = Long.MAX_VALUE) long delayTicks) {
+            return delegate.runDelayed(world, chunkX, chunkZ, task, delayTicks);
+        }
+
+        @Override
+        public @NotNull Task runAtFixedRate(@NotNull World world, int chunkX, int chunkZ,
+                                            @NotNull Consumer<Task> task,
+                                            @Range(from = 1, to = Long.MAX_VALUE) long initialDelayTicks,
+                                            @Range(from = 1, to = Long.MAX_VALUE) long periodTicks) {
+            final Spread spread = spread(initialDelayTicks, periodTicks);
+            if (spread == null) return delegate.runAtFixedRate(world, chunkX, chunkZ, task, initialDelayTicks, periodTicks);
+            return Objects.requireNonNull(spread.bind(delegate.runAtFixedRate(world, chunkX, chunkZ, spread.wrap(task), spread.delay, periodTicks)));
+        }
+    }
+
+    private final class EntitySpread implements IEntityScheduler {
+        private final IEntityScheduler delegate;
+
+        private EntitySpread(IEntityScheduler delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public @Nullable <R> CompletableTask<R> run(@NotNull Function<CompletableTask<R>, R> task,
+                                                    @Nullable Runnable retired) {
+            return delegate.run(task, retired);
+        }
+
+        @Override
+        public boolean execute(@NotNull Runnable task, @Nullable Runnable retired,
+                               @Range(from = 1, to = Long.MAX_VALUE) long delayTicks) {
+            return delegate.execute(task, retired, delayTicks);
+        }
+
+        @Override
+        public @Nullable <R> CompletableTask<R> runDelayed(@NotNull Function<CompletableTask<R>, R> task,
+                                                           @Nullable Runnable retired,
+                                                           @Range(from = 1, to = Long.MAX_VALUE) long delayTicks) {
+            return delegate.runDelayed(task, retired, delayTicks);
+        }
+
+        @Override
+        public @Nullable Task runAtFixedRate(@NotNull Consumer<Task> task,
+                                             @Nullable Runnable retired,
+                                             @Range(from = 1, to = Long.MAX_VALUE) long initialDelayTicks,
+                                             @Range(from = 1, to = Long.MAX_VALUE) long periodTicks) {
+            final Spread spread = spread(initialDelayTicks, periodTicks);
+            if (spread == null) return delegate.runAtFixedRate(task, retired, initialDelayTicks, periodTicks);
+            return spread.bind(delegate.runAtFixedRate(spread.wrap(task), spread.wrap(retired), spread.delay, periodTicks));
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.scheduler;
+
+import de.crazydev22.platformutils.ChunkPos;
+import de.crazydev22.platformutils.Platform;
+import de.crazydev22.platformutils.Type;
+import de.crazydev22.platformutils.scheduler.task.CompletableTask;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Dispatches a task for many chunks or entities with one task per region instead of one task per target.
+ * <p>
+ * On Folia targets are grouped by their region section, which is never split across regions. Each group is run by
+ * a single task on the region scheduler anchored at its first target. On Spigot and Paper all targets form one group.
+ * Targets that are not owned by the region of their group once it runs are handed to their own scheduler.
+ */
+@ApiStatus.Internal
+public final class RegionBatch {
+    private RegionBatch() {}
+
+    /**
+     * Runs the task for each chunk on the region owning it. Chunks that are not owned by the region of their group
+     * once it runs are handed to the region scheduler one by one.
+     *
+     * @param platform the platform
+     * @param world    the world of the chunks
+     * @param chunks   the chunks
+     * @param task     the task to run for each chunk
+     * @return a future completing once the task ran for every chunk, it completes exceptionally with the first
+     * exception thrown by the task
+     */
+    public static @NotNull CompletableFuture<Void> forEach(@NotNull Platform platform, @NotNull World world,
+                                                           @NotNull Collection<ChunkPos> chunks,
+                                                           @NotNull Consumer<ChunkPos> task) {
+        final int shift = shift(platform);
+        final Map<Long, List<ChunkPos>> groups = new LinkedHashMap<>();
+        for (ChunkPos chunk : chunks) {
+            groups.computeIfAbsent(key(chunk.x(), chunk.z(), shift), k -> new ArrayList<>()).add(chunk);
+        }
+
+        final IRegionScheduler scheduler = platform.getRegionScheduler();
+        final CompletableFuture<?>[] futures = new CompletableFuture[groups.size()];
+        int i = 0;
+        for (List<ChunkPos> group : groups.values()) {
+            final ChunkPos anchor = group.get(0);
+            futures[i++] = scheduler.run(world, anchor.x(), anchor.z(), (CompletableTask<CompletableFuture<Void>> t) -> {
+                final Run<ChunkPos> run = new Run<>(task);
+                final List<CompletableFuture<?>> moved = new ArrayList<>();
+                for (ChunkPos chunk : group) {
+                    if (platform.isOwnedByCurrentRegion(world, chunk.x(), chunk.z())) {
+                        run.one(chunk);
+                        continue;
+                    }
+                    moved.add(scheduler.run(world, chunk.x(), chunk.z(), (CompletableTask<Void> c) -> {
+                        task.accept(chunk);
+                        return null;
+                    }).getResult());
+                }
+                run.complete();
+                return CompletableFuture.allOf(moved.toArray(CompletableFuture[]::new));
+            }).getResult().thenCompose(f -> f);
+        }
+        return CompletableFuture.allOf(futures);
+    }
+
+    /**
+     * Runs the task for each entity on the region owning it. Entities that are no longer owned by the region of their
+     * group once it runs are handed to their entity scheduler, entities removed before their turn are skipped.
+     *
+     * @param platform the platform
+     * @param entities the entities
+     * @param task     the task to run for each entity
+     * @return a future completing once the task ran for every entity that was not removed, it completes
+     * exceptionally with the first exception thrown by the task
+     */
+    public static @NotNull CompletableFuture<Void> forEachEntity(@NotNull Platform platform,
+                                                                 @NotNull Collection<? extends Entity> entities,
+                                                                 @NotNull Consumer<Entity> task) {
+        final int shift = shift(platform);
+        final Map<Group, List<Entity>> groups = new LinkedHashMap<>();
+        final Map<Group, Location> anchors = new LinkedHashMap<>();
+        for (Entity entity : entities) {
+            final Location location = entity.getLocation();
+            final var key = new Group(shift < 0 ? null : location.getWorld(),
+                    key(location.getBlockX() >> 4, location.getBlockZ() >> 4, shift));
+            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(entity);
+            anchors.putIfAbsent(key, location);
+        }
+
+        final IRegionScheduler scheduler = platform.getRegionScheduler();
+        final CompletableFuture<?>[] futures = new CompletableFuture[groups.size()];
+        int i = 0;
+        for (var entry : groups.entrySet()) {
+            final Location anchor = anchors.get(entry.getKey());
+            futures[i++] = scheduler.run(anchor, (CompletableTask<CompletableFuture<Void>> t) -> {
+                final Run<Entity> run = new Run<>(task);
+                final List<CompletableFuture<?>> moved = new ArrayList<>();
+                for (Entity entity : entry.getValue()) {
+                    if (!entity.isValid()) continue;
+                    if (platform.isOwnedByCurrentRegion(entity)) {
+                        run.one(entity);
+                        continue;
+                    }
+                    // completed normally on retire, so a removed entity is skipped instead of failing the batch
+                    final CompletableFuture<Void> done = new CompletableFuture<>();
+                    final CompletableTask<Void> fallback = platform.getEntityScheduler(entity).run(() -> {
+                        try {
+                            task.accept(entity);
+                            done.complete(null);
+                        } catch (Throwable e) {
+                            done.completeExceptionally(e);
+                        }
+                    }, () -> done.complete(null));
+                    if (fallback != null) moved.add(done);
+                }
+                run.complete();
+                return CompletableFuture.allOf(moved.toArray(CompletableFuture[]::new));
+            }).getResult().thenCompose(f -> f);
+        }
+        return CompletableFuture.allOf(futures);
+    }
+
+    private record Group(World world, long section) {}
+
+    private static int shift(Platform platform) {
+        return platform.getType() == Type.FOLIA ? TaskMultiplexer.SECTION_SHIFT : -1;
+    }
+
+    private static long key(int chunkX, int chunkZ, int shift) {
+        if (shift < 0) return 0;
+        return ((long) (chunkX >> shift) << 32) | ((chunkZ >> shift) & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Runs a task for the targets of a group, keeping on after a target failed and rethrowing the first failure
+     * with the later ones suppressed.
+     */
+    private static final class Run<T> {
+        private final Consumer<? super T> task;
+        private RuntimeException failure;
+
+        private Run(Consumer<? super T> task) {
+            this.task = task;
+        }
+
+        private void one(T target) {
+            try {
+                task.accept(target);
+            } catch (RuntimeException e) {
+                if (failure == null) failure = e;
+                else failure.addSuppressed(e);
+            }
+        }
+
+        private void complete() {
+            if (failure != null) throw failure;
+        }
+    }
+}
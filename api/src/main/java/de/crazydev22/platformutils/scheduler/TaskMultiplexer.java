@@ -0,0 +1,306 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.scheduler;
+
+import de.crazydev22.platformutils.Platform;
+import de.crazydev22.platformutils.scheduler.task.CompletableTask;
+import de.crazydev22.platformutils.scheduler.task.ManagedTask;
+import de.crazydev22.platformutils.scheduler.task.Task;
+import org.bukkit.World;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Level;
+
+/**
+ * Platform independent implementation of {@link ITaskMultiplexer} that decorates the schedulers of the platform.
+ * <p>
+ * Tasks are grouped by their owner, their period and the tick they first run in modulo the period. New tasks are
+ * queued to the group and picked up by its next run, which converts their delay into a number of its own runs and
+ * then runs every task whose first run is due. Time is only ever counted in the runs of the group, as the regions
+ * on Folia tick independently of each other and of the global region. A group cancels its platform task once it
+ * has no tasks left.
+ */
+@ApiStatus.Internal
+public final class TaskMultiplexer implements ITaskMultiplexer {
+    /**
+     * The shift from chunk to region section coordinates, regions on Folia are made up of whole sections. The grid
+     * exponent is configurable on Folia, so it is read from the server and defaults to {@code 4} elsewhere.
+     */
+    public static final int SECTION_SHIFT = sectionShift();
+    private static final long TICK = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final Map<Key, Group> groups = new ConcurrentHashMap<>();
+    private final AtomicLong active = new AtomicLong();
+    private final Plugin plugin;
+    private final IGlobalScheduler platformGlobal;
+    private final IRegionScheduler platformRegion;
+    private final IGlobalScheduler global;
+    private final IRegionScheduler region;
+    private volatile boolean closed;
+
+    public TaskMultiplexer(@NotNull Platform platform) {
+        this.plugin = platform.getPlugin();
+        this.platformGlobal = platform.getGlobalScheduler();
+        this.platformRegion = platform.getRegionScheduler();
+        this.global = new Global();
+        this.region = new Region();
+    }
+
+    private static int sectionShift() {
+        try {
+            return (int) Class.forName("io.papermc.paper.threadedregions.TickRegions")
+                    .getMethod("getRegionChunkShift")
+                    .invoke(null);
+        } catch (Throwable e) {
+            return 4;
+        }
+    }
+
+    @Override
+    public @NotNull IGlobalScheduler getGlobalScheduler() {
+        return global;
+    }
+
+    @Override
+    public @NotNull IRegionScheduler getRegionScheduler() {
+        return region;
+    }
+
+    @Override
+    public int getGroupCount() {
+        return groups.size();
+    }
+
+    @Override
+    public long getTaskCount() {
+        return active.get();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    private Task schedule(@Nullable World world, int chunkX, int chunkZ, Consumer<Task> action, long initialDelay, long period) {
+        final long now = System.nanoTime();
+        final long phase = Math.floorMod(Math.floorDiv(now, TICK) + initialDelay, period);
+        final var key = new Key(world, chunkX >> SECTION_SHIFT, chunkZ >> SECTION_SHIFT, period, phase);
+        final var task = new ManagedTask(plugin, true, false);
+        task.bind(active::decrementAndGet);
+        final var entry = new Entry(task, action, initialDelay, now);
+        active.incrementAndGet();
+
+        for (;;) {
+            Group group = groups.get(key);
+            if (group == null) {
+                final var created = new Group(key, now, initialDelay);
+                if ((group = groups.putIfAbsent(key, created)) == null) {
+                    created.add(entry);
+                    if (world == null) platformGlobal.runAtFixedRate(created::run, initialDelay, period);
+                    else platformRegion.runAtFixedRate(world, chunkX, chunkZ, created::run, initialDelay, period);
+                    return task;
+                }
+            }
+            if (group.add(entry)) return task;
+        }
+    }
+
+    private final class Group {
+        private final Queue<Entry> incoming = new ConcurrentLinkedQueue<>();
+        private final Key key;
+        private Entry[] entries = new Entry[8];
+        private int size;
+        private long runs;
+        private long last;
+        private long interval;
+        private boolean retired;
+
+        private Group(Key key, long created, long initialDelay) {
+            this.key = key;
+            this.last = created;
+            this.interval = initialDelay;
+        }
+
+        private synchronized boolean add(Entry entry) {
+            if (retired) return false;
+            incoming.add(entry);
+            return true;
+        }
+
+        private void run(Task handle) {
+            final long now = System.nanoTime();
+            for (Entry entry; (entry = incoming.poll()) != null; ) {
+                entry.due = runs + runsUntil(entry.delay, entry.enqueued, last, now, interval, key.period);
+                if (size == entries.length) entries = Arrays.copyOf(entries, size * 2);
+                entries[size++] = entry;
+            }
+            last = now;
+            interval = key.period;
+
+            int dead = 0;
+            for (int i = 0; i < size; i++) {
+                final Entry entry = entries[i];
+                if (entry.task.isCancelled()) {
+                    dead++;
+                } else if (entry.due - runs <= 0) {
+                    try {
+                        entry.task.run(entry.action);
+                    } catch (Throwable e) {
+                        plugin.getLogger().log(Level.SEVERE, "Exception while executing multiplexed task", e);
+                    }
+                }
+            }
+
+            runs++;
+            if (dead > size / 4) compact();
+            if (size == 0) retire(handle);
+        }
+
+        /**
+         * Removes the tombstones of cancelled tasks, keeping the order of the remaining ones.
+         */
+        private void compact() {
+            int alive = 0;
+            for (int i = 0; i < size; i++) {
+                final Entry entry = entries[i];
+                if (!entry.task.isCancelled()) entries[alive++] = entry;
+            }
+            Arrays.fill(entries, alive, size, null);
+            size = alive;
+        }
+
+        private synchronized void retire(Task handle) {
+            if (!incoming.isEmpty()) return;
+            retired = true;
+            groups.remove(key, this);
+            handle.cancel();
+        }
+    }
+
+    private record Key(@Nullable World world, int sectionX, int sectionZ, long period, long phase) {}
+
+    private static final class Entry {
+        private final ManagedTask task;
+        private final Consumer<Task> action;
+        private final long delay;
+        private final long enqueued;
+        private long due;
+
+        private Entry(ManagedTask task, Consumer<Task> action, long delay, long enqueued) {
+            this.task = task;
+            this.action = action;
+            this.delay = delay;
+            this.enqueued = enqueued;
+        }
+    }
+
+    /**
+     * Converts the delay of a task into the number of runs of its group or bucket to wait for, counting from the
+     * current run. The time the task spent in the queue is measured in the owner's own ticks by interpolating between
+     * its previous and its current run and rounded down, so the task does not start before its delay passed.
+     *
+     * @param delay    the delay of the task in ticks
+     * @param enqueued the {@link System#nanoTime()} the task was queued at
+     * @param last     the {@link System#nanoTime()} of the previous run, or the creation of the owner
+     * @param now      the {@link System#nanoTime()} of the current run
+     * @param interval the number of ticks between the previous and the current run
+     * @param period   the number of ticks between two runs from now on
+     * @return the number of runs to skip before the task is due
+     */
+    static long runsUntil(long delay, long enqueued, long last, long now, long interval, long period) {
+        final long window = now - last;
+        final long waited = Math.max(0, Math.min(now - enqueued, window));
+        final long elapsed = window <= 0 ? 0 : (long) ((double) waited / window * interval);
+        final long remaining = delay - elapsed;
+        return remaining <= 0 ? 0 : (remaining + period - 1) / period;
+    }
+
+    private final class Global implements IGlobalScheduler {
+        @Override
+        public @NotNull <R> CompletableTask<R> run(@NotNull Function<CompletableTask<R>, R> task) {
+            return platformGlobal.run(task);
+        }
+
+        @Override
+        public void execute(@NotNull Runnable task) {
+            platformGlobal.execute(task);
+        }
+
+        @Override
+        public @NotNull <R> CompletableTask<R> runDelayed(@NotNull Function<CompletableTask<R>, R> task,
+                                                          @Range(from = 1, to = Long.MAX_VALUE) long delayTicks) {
+            return platformGlobal.runDelayed(task, delayTicks);
+        }
+
+        @Override
+        public @NotNull Task runAtFixedRate(@NotNull Consumer<Task> task,
+                                            @Range(from = 1, to = Long.MAX_VALUE) long initialDelayTicks,
+                                            @Range(from = 1, to = Long.MAX_VALUE) long periodTicks) {
+            if (closed) return platformGlobal.runAtFixedRate(task, initialDelayTicks, periodTicks);
+            return schedule(null, 0, 0, task, initialDelayTicks, periodTicks);
+        }
+    }
+
+    private final class Region implements IRegionScheduler {
+        @Override
+        public @NotNull <R> CompletableTask<R> run(@NotNull World world, int chunkX, int chunkZ,
+                                                   @NotNull Function<CompletableTask<R>, R> task) {
+            return platformRegion.run(world, chunkX, chunkZ, task);
+        }
+
+        @Override
+        public void execute(@NotNull World world, int chunkX, int chunkZ, @NotNull Runnable task) {
+            platformRegion.execute(world, chunkX, chunkZ, task);
+        }
+
+        @Override
+        public @NotNull <R> CompletableTask<R> runDelayed(@NotNull World world, int chunkX, int chunkZ,
+                                                          @NotNull Function<CompletableTask<R>, R> task,
+                                                          @Range(from = 1, to = Long.MAX_VALUE) long delayTicks) {
+            return platformRegion.runDelayed(world, chunkX, chunkZ, task, delayTicks);
+        }
+
+        @Override
+        public @NotNull Task runAtFixedRate(@NotNull World world, int chunkX, int chunkZ,
+                                            @NotNull Consumer<Task> task,
+                                            @Range(from = 1, to = Long.MAX_VALUE) long initialDelayTicks,
+                                            @Range(from = 1, to = Long.MAX_VALUE) long periodTicks) {
+            if (closed) return platformRegion.runAtFixedRate(world, chunkX, chunkZ, task, initialDelayTicks, periodTicks);
+            return schedule(world, chunkX, chunkZ, task, initialDelayTicks, periodTicks);
+        }
+    }
+}
@@ -0,0 +1,338 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.scheduler;
+
+import de.crazydev22.platformutils.Platform;
+import de.crazydev22.platformutils.scheduler.task.CompletableTask;
+import de.crazydev22.platformutils.scheduler.task.Task;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Platform independent implementation of {@link ITaskScope} that decorates the schedulers of the platform.
+ * <p>
+ * A task counts itself as running before it checks the generation, so once {@link #cancel()} returned only the
+ * tasks counted by {@link #getRunningCount()} can still be executing.
+ */
+@ApiStatus.Internal
+public final class TaskScope implements ITaskScope {
+    /**
+     * The time a scope waits for its running tasks when the plugin is disabled if no timeout is configured.
+     */
+    public static final Duration DEFAULT_DRAIN_TIMEOUT = Duration.ofSeconds(1);
+
+    private final Platform platform;
+    private final TaskScopes scopes;
+    private final long drainTimeout;
+    private final AtomicInteger generation = new AtomicInteger();
+    private final AtomicInteger running = new AtomicInteger();
+    private final IGlobalScheduler global;
+    private final IRegionScheduler region;
+    private final IAsyncScheduler async;
+    private volatile Thread drainer;
+    private volatile boolean closed;
+
+    TaskScope(@NotNull Platform platform, @NotNull TaskScopes scopes, @NotNull Duration drainTimeout) {
+        if (drainTimeout.isNegative()) throw new IllegalArgumentException("drainTimeout must not be negative");
+        this.platform = platform;
+        this.scopes = scopes;
+        this.drainTimeout = drainTimeout.toNanos();
+        this.global = new Global(platform.getGlobalScheduler());
+        this.region = new Region(platform.getRegionScheduler());
+        this.async = new Async(platform.getAsyncScheduler());
+    }
+
+    @Override
+    public @NotNull IGlobalScheduler getGlobalScheduler() {
+        return global;
+    }
+
+    @Override
+    public @NotNull IRegionScheduler getRegionScheduler() {
+        return region;
+    }
+
+    @Override
+    public @NotNull IAsyncScheduler getAsyncScheduler() {
+        return async;
+    }
+
+    @Override
+    public @NotNull IEntityScheduler getEntityScheduler(@NotNull Entity entity) {
+        return new EntityScoped(platform.getEntityScheduler(entity));
+    }
+
+    @Override
+    public void cancel() {
+        generation.incrementAndGet();
+    }
+
+    @Override
+    public int getRunningCount() {
+        return running.get();
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        cancel();
+        scopes.remove(this);
+    }
+
+    long getDrainTimeout() {
+        return drainTimeout;
+    }
+
+    /**
+     * Waits until no task of this scope is running anymore.
+     *
+     * @param deadline the {@link System#nanoTime()} at which to stop waiting
+     * @return true if all tasks finished in time
+     */
+    boolean awaitDrained(long deadline) {
+        drainer = Thread.currentThread();
+        try {
+            for (long now = System.nanoTime(); running.get() > 0; now = System.nanoTime()) {
+                if (now - deadline >= 0) {
+                    platform.getPlugin().getLogger().warning(running.get() + " tasks of a task scope did not finish within "
+                            + TimeUnit.NANOSECONDS.toMillis(drainTimeout) + "ms");
+                    return false;
+                }
+                LockSupport.parkNanos(this, deadline - now);
+            }
+            return true;
+        } finally {
+            drainer = null;
+        }
+    }
+
+    private int generation() {
+        if (closed) throw new RejectedExecutionException("Task scope is closed!");
+        return generation.get();
+    }
+
+    private boolean enter(int generation) {
+        running.incrementAndGet();
+        if (this.generation.get() == generation) return true;
+        exit();
+        return false;
+    }
+
+    private void exit() {
+        if (running.decrementAndGet() != 0) return;
+        final Thread drainer = this.drainer;
+        if (drainer != null) LockSupport.unpark(drainer);
+    }
+
+    private <R> Function<CompletableTask<R>, R> wrap(Function<CompletableTask<R>, R> task) {
+        final int generation = generation();
+        return t -> {
+            if (!enter(generation)) throw new CancellationException("Task scope was cancelled");
+            try {
+                return task.apply(t);
+            } finally {
+                exit();
+            }
+        };
+    }
+
+    private Consumer<Task> wrap(Consumer<Task> task) {
+        final int generation = generation();
+        return t -> {
+            if (!enter(generation)) {
+                t.cancel();
+                return;
+            }
+            try {
+                task.accept(t);
+            } finally {
+                exit();
+            }
+        };
+    }
+
+    private Runnable wrap(Runnable task) {
+        if (task == null) return null;
+        final int generation = generation();
+        return () -> {
+            if (!enter(generation)) return;
+            try {
+                task.run();
+            } finally {
+                exit();
+            }
+        };
+    }
+
+    private final class Global implements IGlobalScheduler {
+        private final IGlobalScheduler delegate;
+
+        private Global(IGlobalScheduler delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public @NotNull <R> CompletableTask<R> run(@NotNull Function<CompletableTask<R>, R> task) {
+            return delegate.run(wrap(task));
+        }
+
+        @Override
+        public void execute(@NotNull Runnable task) {
+            delegate.execute(wrap(task));
+        }
+
+        @Override
+        public @NotNull <R> CompletableTask<R> runDelayed(@NotNull Function<CompletableTask<R>, R> task,
+                                                          @Range(from = 1, to = Long.MAX_VALUE) long delayTicks) {
+            return delegate.runDelayed(wrap(task), delayTicks);
+        }
+
+        @Override
+        public @NotNull Task runAtFixedRate(@NotNull Consumer<Task> task,
+                                            @Range(from = 1, to = Long.MAX_VALUE) long initialDelayTicks,
+                                            @Range(from = 1, to = Long.MAX_VALUE) long periodTicks) {
+            return delegate.runAtFixedRate(wrap(task), initialDelayTicks, periodTicks);
+        }
+    }
+
+    private final class Region implements IRegionScheduler {
+        private final IRegionScheduler delegate;
+
+        private Region(IRegionScheduler delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public @NotNull <R> CompletableTask<R> run(@NotNull World world, int chunkX, int chunkZ,
+                                                   @NotNull Function<CompletableTask<R>, R> task) {
+            return delegate.run(world, chunkX, chunkZ, wrap(task));
+        }
+
+        @Override
+        public void execute(@NotNull World world, int chunkX, int chunkZ, @NotNull Runnable task) {
+            delegate.execute(world, chunkX, chunkZ, wrap(task));
+        }
+
+        @Override
+        public @NotNull <R> CompletableTask<R> runDelayed(@NotNull World world, int chunkX, int chunkZ,
+                                                          @NotNull Function<CompletableTask<R>, R> task,
+                                                          @Range(from = 1, to = Long.MAX_VALUE) long delayTicks) {
+            return delegate.runDelayed(world, chunkX, chunkZ, wrap(task), delayTicks);
+        }
+
+        @Override
+        public @NotNull Task runAtFixedRate(@NotNull World world, int chunkX, int chunkZ,
+                                            @NotNull Consumer<Task> task,
+                                            @Range(from = 1, to = Long.MAX_VALUE) long initialDelayTicks,
+                                            @Range(from = 1, to = Long.MAX_VALUE) long periodTicks) {
+            return delegate.runAtFixedRate(world, chunkX, chunkZ, wrap(task), initialDelayTicks, periodTicks);
+        }
+    }
+
+    private final class Async implements IAsyncScheduler {
+        private final IAsyncScheduler delegate;
+
+        private Async(IAsyncScheduler delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public @NotNull <R> CompletableTask<R> run(@NotNull Function<CompletableTask<R>, R> task) {
+            return delegate.run(wrap(task));
+        }
+
+        @Override
+        public void execute(@NotNull Runnable task) {
+            delegate.execute(wrap(task));
+        }
+
+        @Override
+        public @NotNull <R> CompletableTask<R> runDelayed(@NotNull Function<CompletableTask<R>, R> task,
+                                                          @Range(from = 0, to = Long.MAX_VALUE) long delay,
+                                                          @NotNull TimeUnit unit) {
+            return delegate.runDelayed(wrap(task), delay, unit);
+        }
+
+        @Override
+        public @NotNull Task runAtFixedRate(@NotNull Consumer<Task> task,
+                                            @Range(from = 0, to = Long.MAX_VALUE) long initialDelay,
+                                            @Range(from = 1, to = Long.MAX_VALUE) long period,
+                                            @NotNull TimeUnit unit) {
+            return delegate.runAtFixedRate(wrap(task), initialDelay, period, unit);
+        }
+    }
+
+    private final class EntityScoped implements IEntityScheduler {
+        private final IEntityScheduler delegate;
+
+        private EntityScoped(IEntityScheduler delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public @Nullable <R> CompletableTask<R> run(@NotNull Function<CompletableTask<R>, R> task,
+                                                    @Nullable Runnable retired) {
+            return delegate.run(wrap(task), wrap(retired));
+        }
+
+        @Override
+        public boolean execute(@NotNull Runnable task, @Nullable Runnable retired,
+                               @Range(from = 1, to = Long.MAX_VALUE) long delayTicks) {
+            return delegate.execute(wrap(task), wrap(retired), delayTicks);
+        }
+
+        @Override
+        public @Nullable <R> CompletableTask<R> runDelayed(@NotNull Function<CompletableTask<R>, R> task,
+                                                           @Nullable Runnable retired,
+                                                           @Range(from = 1, to = Long.MAX_VALUE) long delayTicks) {
+            return delegate.runDelayed(wrap(task), wrap(retired), delayTicks);
+        }
+
+        @Override
+        public @Nullable Task runAtFixedRate(@NotNull Consumer<Task> task,
+                                             @Nullable Runnable retired,
+                                             @Range(from = 1, to = Long.MAX_VALUE) long initialDelayTicks,
+                                             @Range(from = 1, to = Long.MAX_VALUE) long periodTicks) {
+            return delegate.runAtFixedRate(wrap(task), wrap(retired), initialDelayTicks, periodTicks);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.scheduler;
+
+import de.crazydev22.platformutils.Platform;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps track of the open {@link TaskScope task scopes} of a platform and drains them once the plugin is disabled.
+ * All scopes are closed first and then awaited against deadlines that started at the same time,
+ * so the whole drain takes at most the longest drain timeout.
+ */
+@ApiStatus.Internal
+public final class TaskScopes implements Listener {
+    private final Platform platform;
+    private final Set<TaskScope> scopes = ConcurrentHashMap.newKeySet();
+
+    public TaskScopes(@NotNull Platform platform) {
+        this.platform = platform;
+    }
+
+    public @NotNull ITaskScope create(@NotNull Duration drainTimeout) {
+        var scope = new TaskScope(platform, this, drainTimeout);
+        scopes.add(scope);
+        return scope;
+    }
+
+    void remove(TaskScope scope) {
+        scopes.remove(scope);
+    }
+
+    /**
+     * Closes every open scope and waits for their running tasks.
+     */
+    public void drain() {
+        final long start = System.nanoTime();
+        final List<TaskScope> scopes = List.copyOf(this.scopes);
+        for (TaskScope scope : scopes) {
+            scope.close();
+        }
+        for (TaskScope scope : scopes) {
+            scope.awaitDrained(start + scope.getDrainTimeout());
+        }
+    }
+
+    @EventHandler
+    public void onPluginDisable(PluginDisableEvent event) {
+        if (event.getPlugin() == platform.getPlugin()) drain();
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.scheduler;
+
+import de.crazydev22.platformutils.Platform;
+import de.crazydev22.platformutils.scheduler.task.Task;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+
+/**
+ * Platform independent implementation of {@link ITickExecutor} backed by a repeating task on the global scheduler.
+ * <p>
+ * Each tick the lanes are drained from the highest to the lowest priority. While draining a lane, the minimum
+ * shares of all lower lanes that have work queued are held back from the budget. Time left over once every lane
+ * had its turn is handed out again from the top. Only tasks queued when the tick started are run, tasks submitted
+ * while draining wait for the next tick.
+ */
+@ApiStatus.Internal
+public final class TickExecutor implements ITickExecutor {
+    /**
+     * The minimum share of the budget in percent each lane receives if no shares are configured.
+     */
+    public static final Map<TaskPriority, Integer> DEFAULT_SHARES = Map.of(
+            TaskPriority.CRITICAL, 0,
+            TaskPriority.NORMAL, 10,
+            TaskPriority.BACKGROUND, 5
+    );
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+
+    private final Lane[] lanes = new Lane[PRIORITIES.length];
+    private final Plugin plugin;
+    private final long budget;
+    private volatile boolean closed;
+
+    /**
+     * Creates a new executor and starts draining it on the next tick.
+     *
+     * @param platform  the platform to schedule the drain task on
+     * @param msPerTick the maximum number of milliseconds to spend per tick, or {@code 0} for no limit
+     * @param shares    the minimum share of the budget in percent per lane, missing lanes receive no share
+     */
+    public TickExecutor(@NotNull Platform platform, int msPerTick, @NotNull Map<TaskPriority, Integer> shares) {
+        if (msPerTick < 0) throw new IllegalArgumentException("msPerTick must not be negative");
+        int total = 0;
+        for (TaskPriority priority : PRIORITIES) {
+            int share = shares.getOrDefault(priority, 0);
+            if (share < 0) throw new IllegalArgumentException("Share of " + priority + " must not be negative");
+            total += share;
+            lanes[priority.ordinal()] = new Lane(TimeUnit.MILLISECONDS.toNanos(msPerTick) * share / 100);
+        }
+        if (total > 100) throw new IllegalArgumentException("Shares must not exceed 100%");
+
+        this.plugin = platform.getPlugin();
+        this.budget = TimeUnit.MILLISECONDS.toNanos(msPerTick);
+        platform.getGlobalScheduler().runAtFixedRate(this::drain, 1, 1);
+    }
+
+    @Override
+    public void execute(@NotNull TaskPriority priority, @NotNull Runnable command) {
+        if (closed) throw new RejectedExecutionException("Executor is closed!");
+        lanes[priority.ordinal()].add(command);
+    }
+
+    @Override
+    public int getQueueSize() {
+        int size = 0;
+        for (Lane lane : lanes) {
+            size += lane.size();
+        }
+        return size;
+    }
+
+    @Override
+    public int getQueueSize(@NotNull TaskPriority priority) {
+        return lanes[priority.ordinal()].size();
+    }
+
+    @Override
+    public @NotNull LaneStatistics getStatistics(@NotNull TaskPriority priority) {
+        Lane lane = lanes[priority.ordinal()];
+        return new LaneStatistics(lane.size(), lane.executed, lane.totalWait, lane.maxWait);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    private void drain(Task task) {
+        for (Lane lane : lanes) {
+            lane.snapshot();
+        }
+
+        if (budget == 0) {
+            for (Lane lane : lanes) {
+                lane.drain(0, false);
+            }
+        } else {
+            final long deadline = System.nanoTime() + budget;
+            long reserved = 0;
+            for (Lane lane : lanes) {
+                lane.active = lane.pending > 0;
+                if (lane.active) reserved += lane.reserve;
+            }
+
+            for (Lane lane : lanes) {
+                if (!lane.active) continue;
+                reserved -= lane.reserve;
+                lane.drain(deadline - reserved, true);
+            }
+
+            for (Lane lane : lanes) {
+                if (!lane.drain(deadline, true)) break;
+            }
+        }
+
+        if (closed && getQueueSize() == 0) {
+            task.cancel();
+        }
+    }
+
+    private final class Lane {
+        private final Queue<Entry> queue = new ConcurrentLinkedQueue<>();
+        private final LongAdder submitted = new LongAdder();
+        private final long reserve;
+        private boolean active;
+        private long pending;
+        private volatile long executed;
+        private volatile long totalWait;
+        private volatile long maxWait;
+
+        private Lane(long reserve) {
+            this.reserve = reserve;
+        }
+
+        private void add(Runnable command) {
+            submitted.increment();
+            queue.add(new Entry(command, System.nanoTime()));
+        }
+
+        private int size() {
+            return (int) Math.max(0, submitted.sum() - executed);
+        }
+
+        /**
+         * Limits the following drains to the tasks queued at the start of this tick, tasks submitted while draining
+         * are left for the next tick.
+         */
+        private void snapshot() {
+            pending = submitted.sum() - executed;
+        }
+
+        /**
+         * Runs tasks of this lane until the tasks queued at the start of the tick ran or the deadline passed.
+         *
+         * @param deadline the {@link System#nanoTime()} at which to stop
+         * @param bounded  whether to stop at the deadline at all, unbounded drains run until the snapshot is drained
+         * @return true if the lane was drained completely
+         */
+        private boolean drain(long deadline, boolean bounded) {
+            long executed = this.executed, totalWait = this.totalWait, maxWait = this.maxWait;
+            try {
+                for (long now = System.nanoTime(); !bounded || now - deadline < 0; now = System.nanoTime()) {
+                    if (pending <= 0) return true;
+                    Entry entry = queue.poll();
+                    if (entry == null) return true;
+
+                    pending--;
+
+                    long wait = now - entry.submitted;
+                    executed++;
+                    totalWait += wait;
+                    if (wait > maxWait) maxWait = wait;
+                    try {
+                        entry.command.run();
+                    } catch (Throwable e) {
+                        plugin.getLogger().log(Level.SEVERE, "Exception while executing tick task", e);
+                    }
+                }
+                return pending <= 0;
+            } finally {
+                this.executed = executed;
+                this.totalWait = totalWait;
+                this.maxWait = maxWait;
+            }
+        }
+    }
+
+    private record Entry(Runnable command, long submitted) {}
+}
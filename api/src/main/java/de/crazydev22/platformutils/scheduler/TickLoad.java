@@ -0,0 +1,61 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.scheduler;
+
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * Keeps an exponential moving average of the tick durations per tick thread. Paper records the duration of every
+ * server tick on the main thread, so the average describes the load of the ticks it ran recently.
+ * <p>
+ * Nothing is recorded on Spigot, and Folia does not report the duration of region ticks, so region threads always
+ * report no load. Users of this class have to fall back to the lateness they observe themselves there.
+ */
+@ApiStatus.Internal
+public final class TickLoad {
+    private static final double ALPHA = 0.1;
+    private static final ThreadLocal<double[]> AVERAGE = ThreadLocal.withInitial(() -> new double[]{Double.NaN});
+
+    private TickLoad() {}
+
+    /**
+     * Records the duration of a tick that just ended on the current thread.
+     *
+     * @param millis the duration of the tick in milliseconds
+     */
+    public static void record(double millis) {
+        final double[] average = AVERAGE.get();
+        average[0] = Double.isNaN(average[0]) ? millis : average[0] + ALPHA * (millis - average[0]);
+    }
+
+    /**
+     * Returns the average tick duration of the current thread.
+     *
+     * @return the average in milliseconds, or {@code 0} if no tick was recorded on this thread
+     */
+    public static double get() {
+        final double average = AVERAGE.get()[0];
+        return Double.isNaN(average) ? 0 : average;
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.scheduler;
+
+import de.crazydev22.platformutils.Platform;
+import de.crazydev22.platformutils.scheduler.task.CompletableTask;
+import de.crazydev22.platformutils.scheduler.task.ManagedTask;
+import de.crazydev22.platformutils.scheduler.task.Task;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Range;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Platform independent implementation of {@link ITimerService}. The tick wheel is advanced by a repeating task
+ * on the global scheduler, the millisecond wheel by a timer thread that parks until the next deadline of the wheel.
+ * A timer due before the planned wake-up unparks the thread.
+ * <p>
+ * The service closes itself once the owning plugin is disabled, if it was registered as a listener.
+ */
+@ApiStatus.Internal
+public final class TimerService implements ITimerService, Listener {
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Plugin plugin;
+    private final IGlobalScheduler platformGlobal;
+    private final IAsyncScheduler platformAsync;
+    private final TimingWheel ticks;
+    private final TimingWheel millis;
+    private final long origin = System.nanoTime();
+    private final Thread timer;
+    private final IGlobalScheduler global = new Global();
+    private final IAsyncScheduler async = new Async();
+    private volatile long planned = Long.MAX_VALUE;
+    private volatile boolean closed;
+
+    public TimerService(@NotNull Platform platform) {
+        this.plugin = platform.getPlugin();
+        this.platformGlobal = platform.getGlobalScheduler();
+        this.platformAsync = platform.getAsyncScheduler();
+        this.ticks = new TimingWheel(plugin.getLogger());
+        this.millis = new TimingWheel(plugin.getLogger());
+
+        platformGlobal.runAtFixedRate(this::tick, 1, 1);
+        timer = new Thread(this::runTimer, plugin.getName() + " Timer Wheel");
+        timer.setDaemon(true);
+        timer.start();
+    }
+
+    @Override
+    public @NotNull IGlobalScheduler getGlobalScheduler() {
+        return global;
+    }
+
+    @Override
+    public @NotNull IAsyncScheduler getAsyncScheduler() {
+        return async;
+    }
+
+    @Override
+    public long getPendingCount() {
+        return ticks.size() + millis.size();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(timer);
+    }
+
+    @EventHandler
+    public void onPluginDisable(PluginDisableEvent event) {
+        if (event.getPlugin() == plugin) close();
+    }
+
+    private void tick(Task task) {
+        if (closed) {
+            ticks.clear();
+            task.cancel();
+            return;
+        }
+        ticks.advance(ticks.getTime() + 1);
+    }
+
+    private void runTimer() {
+        while (!closed) {
+            millis.advance(now());
+
+            // a timer scheduled before the wake-up was published is seen by the second look, later ones unpark the thread
+            planned = millis.nextDeadline();
+            final long wakeup = millis.nextDeadline();
+            if (closed) break;
+            if (wakeup == Long.MAX_VALUE) LockSupport.park(this);
+            else LockSupport.parkNanos(this, origin + wakeup * MILLIS - System.nanoTime());
+        }
+        millis.clear();
+    }
+
+    private long now() {
+        return (System.nanoTime() - origin) / MILLIS;
+    }
+
+    private void schedule(TimingWheel wheel, ManagedTask task, Runnable action, long deadline, long period) {
+        if (closed) throw new RejectedExecutionException("Timer service is closed!");
+        wheel.schedule(task, action, deadline, period);
+        if (wheel == millis && deadline < planned) LockSupport.unpark(timer);
+    }
+
+    private final class Global implements IGlobalScheduler {
+        @Override
+        public @NotNull <R> CompletableTask<R> run(@NotNull Function<CompletableTask<R>, R> task) {
+            return platformGlobal.run(task);
+        }
+
+        @Override
+        public void execute(@NotNull Runnable task) {
+            platformGlobal.execute(task);
+        }
+
+        @Override
+        public @NotNull <R> CompletableTask<R> runDelayed(@NotNull Function<CompletableTask<R>, R> task,
+                                                          @Range(from = 1, to = Long.MAX_VALUE) long delayTicks) {
+            var wrapped = new ManagedTask.Completable<R>(plugin, false);
+            schedule(ticks, wrapped, () -> wrapped.complete(task), ticks.getTime() + delayTicks, 0);
+            return wrapped;
+        }
+
+        @Override
+        public @NotNull Task runAtFixedRate(@NotNull Consumer<Task> task,
+                                            @Range(from = 1, to = Long.MAX_VALUE) long initialDelayTicks,
+                                            @Range(from = 1, to = Long.MAX_VALUE) long periodTicks) {
+            var wrapped = new ManagedTask(plugin, true, false);
+            schedule(ticks, wrapped, () -> wrapped.run(task), ticks.getTime() + initialDelayTicks, periodTicks);
+            return wrapped;
+        }
+    }
+
+    private final class Async implements IAsyncScheduler {
+        @Override
+        public @NotNull <R> CompletableTask<R> run(@NotNull Function<CompletableTask<R>, R> task) {
+            return platformAsync.run(task);
+        }
+
+        @Override
+        public void execute(@NotNull Runnable task) {
+            platformAsync.execute(task);
+        }
+
+        @Override
+        public @NotNull <R> CompletableTask<R> runDelayed(@NotNull Function<CompletableTask<R>, R> task,
+                                                          @Range(from = 0, to = Long.MAX_VALUE) long delay,
+                                                          @NotNull TimeUnit unit) {
+            var wrapped = new ManagedTask.Completable<R>(plugin, true);
+            Runnable run = () -> wrapped.complete(task);
+            schedule(millis, wrapped, () -> platformAsync.execute(run), deadline(delay, unit), 0);
+            return wrapped;
+        }
+
+        @Override
+        public @NotNull Task runAtFixedRate(@NotNull Consumer<Task> task,
+                                            @Range(from = 0, to = Long.MAX_VALUE) long initialDelay,
+                                            @Range(from = 1, to = Long.MAX_VALUE) long period,
+                                            @NotNull TimeUnit unit) {
+            var wrapped = new ManagedTask(plugin, true, true);
+            Runnable run = () -> wrapped.run(task);
+            long periodMillis = Math.max(1, unit.toMillis(period));
+            schedule(millis, wrapped, () -> platformAsync.execute(run), deadline(initialDelay, unit), periodMillis);
+            return wrapped;
+        }
+
+        /**
+         * Rounds up to the next millisecond, so a timer never fires before its delay passed.
+         */
+        private long deadline(long delay, TimeUnit unit) {
+            long nanos = System.nanoTime() - origin + unit.toNanos(delay);
+            return (nanos + MILLIS - 1) / MILLIS;
+        }
+    }
+}
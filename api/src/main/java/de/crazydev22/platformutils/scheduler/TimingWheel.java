@@ -0,0 +1,305 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.scheduler;
+
+import de.crazydev22.platformutils.scheduler.task.ManagedTask;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A hierarchical timing wheel. Every level has 64 slots, each slot of a level spans a full rotation of the level
+ * below it. Timers are kept in doubly linked lists per slot and are moved down a level whenever the wheel passes
+ * the start of their slot, so scheduling, cancelling and firing a timer are all constant time.
+ * <p>
+ * The wheel itself is only touched by the thread calling {@link #advance(long)}. Timers scheduled or cancelled
+ * from other threads are collected in lock-free queues and applied on the next advance.
+ */
+@ApiStatus.Internal
+public final class TimingWheel {
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 6;
+
+    private final Timer[] buckets = new Timer[LEVELS * SLOTS];
+    private final Queue<Timer> scheduled = new ConcurrentLinkedQueue<>();
+    private final Queue<Timer> cancelled = new ConcurrentLinkedQueue<>();
+    private final LongAdder added = new LongAdder();
+    private final Logger logger;
+    private volatile long time;
+    private volatile long removed;
+    private long linked;
+
+    public TimingWheel(@NotNull Logger logger) {
+        this.logger = logger;
+    }
+
+    /**
+     * Returns the time the wheel has advanced to.
+     *
+     * @return the current time of the wheel
+     */
+    public long getTime() {
+        return time;
+    }
+
+    /**
+     * Returns the number of timers that are pending, including ones that were not yet applied to the wheel.
+     *
+     * @return the number of pending timers
+     */
+    public long size() {
+        return added.sum() - removed;
+    }
+
+    /**
+     * Returns whether no timer is linked into the wheel or waiting to be applied.
+     * This may only be called by the thread advancing the wheel.
+     *
+     * @return true if the wheel has nothing to do
+     */
+    public boolean isIdle() {
+        return linked == 0 && scheduled.isEmpty();
+    }
+
+    /**
+     * Returns the time the wheel has to be advanced to next, so no timer runs late. That is the next occupied slot of
+     * the lowest level, but at most the start of its next rotation, where timers of higher levels may move down.
+     * Timers waiting to be applied need the next step. This may only be called by the thread advancing the wheel.
+     *
+     * @return the time to advance to next, or {@link Long#MAX_VALUE} if the wheel is idle
+     */
+    public long nextDeadline() {
+        if (!scheduled.isEmpty()) return time + 1;
+        if (linked == 0) return Long.MAX_VALUE;
+
+        final long now = time;
+        final long rotation = (now | MASK) + 1;
+        for (long next = now + 1; next < rotation; next++) {
+            if (buckets[(int) (next & MASK)] != null) return next;
+        }
+        return rotation;
+    }
+
+    /**
+     * Schedules the action to run once the wheel reaches the deadline and binds the timer to the task,
+     * so cancelling the task removes it from the wheel. This may be called from any thread.
+     *
+     * @param task     the task handle of the timer
+     * @param action   the action to run
+     * @param deadline the time of the wheel at which to run the action
+     * @param period   the period to repeat the action with, or {@code 0} to run it once
+     */
+    public void schedule(@NotNull ManagedTask task, @NotNull Runnable action, long deadline, long period) {
+        var timer = new Timer(task, action, deadline, period);
+        added.increment();
+        scheduled.add(timer);
+        task.bind(timer);
+    }
+
+    /**
+     * Advances the wheel up to the target time and runs every timer that is due on the calling thread.
+     * If the wheel is empty it jumps to the target directly.
+     *
+     * @param target the time to advance to
+     */
+    public void advance(long target) {
+        long removed = this.removed;
+        try {
+            for (Timer timer; (timer = cancelled.poll()) != null; ) {
+                if (timer.bucket < 0) continue;
+                unlink(timer);
+                linked--;
+                removed++;
+            }
+
+            while (time < target) {
+                if (isIdle()) {
+                    time = target;
+                    return;
+                }
+
+                final long now = time + 1;
+                time = now;
+                for (Timer timer; (timer = scheduled.poll()) != null; ) {
+                    if (timer.task.isCancelled()) {
+                        removed++;
+                        continue;
+                    }
+                    linked++;
+                    insert(timer);
+                }
+
+                removed += step(now);
+            }
+        } finally {
+            this.removed = removed;
+        }
+    }
+
+    /**
+     * Moves the timers of every level that starts a new rotation down and fires the timers due at the given time.
+     *
+     * @return the number of timers that left the wheel
+     */
+    private long step(long now) {
+        for (int level = LEVELS - 1; level > 0; level--) {
+            if ((now & ((1L << BITS * level) - 1)) != 0) continue;
+            Timer timer = detach(level * SLOTS + (int) (now >>> BITS * level & MASK));
+            while (timer != null) {
+                final Timer next = timer.next;
+                timer.next = null;
+                insert(timer);
+                timer = next;
+            }
+        }
+
+        long removed = 0;
+        Timer timer = detach((int) (now & MASK));
+        while (timer != null) {
+            final Timer next = timer.next;
+            timer.next = null;
+            if (!fire(timer)) {
+                linked--;
+                removed++;
+            }
+            timer = next;
+        }
+        return removed;
+    }
+
+    /**
+     * Cancels every pending timer and empties the wheel.
+     */
+    public void clear() {
+        for (int i = 0; i < buckets.length; i++) {
+            Timer timer = detach(i);
+            while (timer != null) {
+                final Timer next = timer.next;
+                timer.next = null;
+                timer.task.cancel();
+                timer = next;
+            }
+        }
+        for (Timer timer; (timer = scheduled.poll()) != null; ) {
+            timer.task.cancel();
+        }
+        cancelled.clear();
+        linked = 0;
+        removed = added.sum();
+    }
+
+    /**
+     * Runs the action of the timer and inserts it again if it repeats.
+     *
+     * @return true if the timer is still linked into the wheel
+     */
+    private boolean fire(Timer timer) {
+        try {
+            timer.action.run();
+        } catch (Throwable e) {
+            logger.log(Level.SEVERE, "Exception while executing timer", e);
+        }
+
+        if (timer.period <= 0 || timer.task.isCancelled())
+            return false;
+        timer.deadline += timer.period;
+        insert(timer);
+        return true;
+    }
+
+    private void insert(Timer timer) {
+        final long now = time;
+        final long deadline = Math.max(timer.deadline, now);
+        final long delta = deadline - now;
+
+        int level = delta < SLOTS ? 0 : (63 - Long.numberOfLeadingZeros(delta)) / BITS;
+        int slot;
+        if (level < LEVELS) {
+            slot = (int) (deadline >>> BITS * level & MASK);
+        } else {
+            // beyond the range of the wheel, park it in the slot of the top level that is visited last
+            level = LEVELS - 1;
+            slot = (int) ((now >>> BITS * level) - 1 & MASK);
+        }
+
+        final int bucket = level * SLOTS + slot;
+        final Timer head = buckets[bucket];
+        timer.bucket = bucket;
+        timer.prev = null;
+        timer.next = head;
+        if (head != null) head.prev = timer;
+        buckets[bucket] = timer;
+    }
+
+    private void unlink(Timer timer) {
+        if (timer.prev != null) timer.prev.next = timer.next;
+        else buckets[timer.bucket] = timer.next;
+        if (timer.next != null) timer.next.prev = timer.prev;
+        timer.bucket = -1;
+        timer.prev = null;
+        timer.next = null;
+    }
+
+    private Timer detach(int bucket) {
+        final Timer head = buckets[bucket];
+        buckets[bucket] = null;
+        for (Timer timer = head; timer != null; timer = timer.next) {
+            timer.bucket = -1;
+            timer.prev = null;
+        }
+        return head;
+    }
+
+    private final class Timer implements Runnable {
+        private final ManagedTask task;
+        private final Runnable action;
+        private final long period;
+        private long deadline;
+        private int bucket = -1;
+        private Timer prev;
+        private Timer next;
+
+        private Timer(ManagedTask task, Runnable action, long deadline, long period) {
+            this.task = task;
+            this.action = action;
+            this.deadline = deadline;
+            this.period = period;
+        }
+
+        /**
+         * Queues this timer to be removed from the wheel once its task got cancelled.
+         */
+        @Override
+        public void run() {
+            cancelled.add(this);
+        }
+    }
+}
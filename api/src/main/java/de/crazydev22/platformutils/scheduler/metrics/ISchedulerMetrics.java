@@ -0,0 +1,190 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.scheduler.metrics;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Range;
+
+import java.util.List;
+
+/**
+ * Records how long the tasks of the platform schedulers take, how late they start and how many of them are pending.
+ * Tasks are grouped by the {@link SchedulerType} and a label, which is taken from the innermost {@link #label(String)}
+ * of the submitting thread, or from the submitting callsite if {@link #setCapturingCallsites(boolean) enabled}.
+ * <p>
+ * Metrics are disabled by default. While enabled, the schedulers returned by the platform wrap every task they
+ * schedule, schedulers and executors obtained while disabled are not recorded.
+ * <p>
+ * Independent of this switch, the schedulers also wrap their tasks while a flight recording is running and emit the
+ * {@code de.crazydev22.platformutils.TaskScheduled}, {@code TaskExecution}, {@code TaskCancelled} and
+ * {@code TaskRetired} events, which carry the scheduler type, label, location and delays of the task.
+ */
+@ApiStatus.NonExtendable
+public interface ISchedulerMetrics {
+
+    /**
+     * Returns whether tasks are currently recorded.
+     *
+     * @return true if metrics are enabled
+     */
+    boolean isEnabled();
+
+    /**
+     * Enables or disables recording of tasks. Recorded data is kept while disabled.
+     *
+     * @param enabled whether to record tasks
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * Returns whether tasks without a label are grouped by the callsite that submitted them.
+     *
+     * @return true if callsites are captured
+     */
+    boolean isCapturingCallsites();
+
+    /**
+     * Sets whether tasks without a label are grouped by the callsite that submitted them. Capturing the callsite
+     * walks the stack on every submission, which is far more expensive than the rest of the recording and should
+     * only be used while looking for a slow task.
+     *
+     * @param capture whether to capture callsites
+     */
+    void setCapturingCallsites(boolean capture);
+
+    /**
+     * Returns the sampling interval of the timings.
+     *
+     * @return the average number of tasks per timed task
+     */
+    int getSamplingInterval();
+
+    /**
+     * Sets how many tasks are submitted per task whose execution time and scheduling delay is recorded, tasks are
+     * picked at random. Reading the clock is the most expensive part of the recording, so timing every task is
+     * only advisable for schedulers with few tasks. Every run of a repeating task is timed regardless of the
+     * interval. Counts are always recorded for every task.
+     *
+     * @param interval the average number of tasks per timed task, {@code 1} to time every task
+     */
+    void setSamplingInterval(@Range(from = 1, to = Integer.MAX_VALUE) int interval);
+
+    /**
+     * Records all tasks submitted by the current thread under the given label until the returned label is closed.
+     * Labels can be nested, closing a label restores the previous one.
+     * <pre>{@code
+     * try (var label = metrics.label("cooldowns")) {
+     *     scheduler.runDelayed(task, 20);
+     * }
+     * }</pre>
+     *
+     * @param label the label to record tasks under
+     * @return the label to close once the tasks were submitted
+     */
+    @NotNull Label label(@NotNull String label);
+
+    /**
+     * Returns the watchdog reporting tasks that run too long on tick and region threads.
+     *
+     * @return the watchdog
+     */
+    @NotNull ITaskWatchdog getWatchdog();
+
+    /**
+     * Returns a snapshot of the recorded statistics of every scheduler type and label.
+     *
+     * @return the statistics
+     */
+    @NotNull List<TaskStatistics> getStatistics();
+
+    /**
+     * Discards all recorded data.
+     */
+    void reset();
+
+    /**
+     * An active label of the current thread.
+     */
+    @FunctionalInterface
+    interface Label extends AutoCloseable {
+        /**
+         * Restores the label that was active before this one.
+         */
+        @Override
+        void close();
+    }
+
+    /**
+     * A snapshot of the statistics of the tasks of one scheduler type and label.
+     *
+     * @param type            the scheduler type
+     * @param label           the label or callsite
+     * @param submitted       the number of tasks submitted
+     * @param started         the number of tasks that started their first run
+     * @param cancelled       the number of tasks cancelled or retired before their first run
+     * @param pending         the number of tasks waiting for their first run
+     * @param executionTime   the time in nanoseconds each timed run took
+     * @param schedulingDelay the time in nanoseconds each timed run started later than requested
+     */
+    record TaskStatistics(@NotNull SchedulerType type, @NotNull String label, long submitted, long started, long cancelled,
+                          long pending, @NotNull Histogram executionTime, @NotNull Histogram schedulingDelay) {}
+
+    /**
+     * A histogram with buckets of powers of two. Bucket {@code 0} counts the value {@code 0}, bucket {@code i}
+     * counts the values from {@code 2^(i-1)} up to {@code 2^i - 1}.
+     *
+     * @param count   the number of recorded values
+     * @param sum     the sum of all recorded values
+     * @param buckets the number of values per bucket
+     */
+    record Histogram(long count, long sum, long @NotNull [] buckets) {
+
+        /**
+         * Returns the average of the recorded values.
+         *
+         * @return the average, or {@code 0} if nothing was recorded
+         */
+        public long mean() {
+            return count == 0 ? 0 : sum / count;
+        }
+
+        /**
+         * Returns an upper bound of the given percentile of the recorded values.
+         *
+         * @param percentile the percentile between {@code 0} and {@code 100}
+         * @return the upper bound of the bucket containing the percentile, or {@code 0} if nothing was recorded
+         */
+        public long percentile(double percentile) {
+            if (count == 0) return 0;
+            final long rank = Math.max(1, (long) Math.ceil(count * percentile / 100));
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= rank) return i == 0 ? 0 : i == 63 ? Long.MAX_VALUE : (1L << i) - 1;
+            }
+            return Long.MAX_VALUE;
+        }
+    }
+}
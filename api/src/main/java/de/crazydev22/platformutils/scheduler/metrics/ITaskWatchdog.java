@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.scheduler.metrics;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Watches the tasks running on tick and region threads and reports every run that takes longer than a threshold.
+ * A single monitor thread checks the running tasks, captures the stack of a thread once its task passed the
+ * threshold and keeps the latest reports in a bounded buffer.
+ * <p>
+ * While enabled, the schedulers returned by the platform wrap every task they schedule and capture the site that
+ * submitted it, tasks of the async scheduler are not watched.
+ */
+@ApiStatus.NonExtendable
+public interface ITaskWatchdog {
+
+    /**
+     * Returns whether tasks are currently watched.
+     *
+     * @return true if the watchdog is enabled
+     */
+    boolean isEnabled();
+
+    /**
+     * Enables or disables the watchdog. The monitor thread is started once enabled and stops once disabled or the
+     * plugin is disabled.
+     *
+     * @param enabled whether to watch tasks
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * Returns the time a single run may take before it is reported.
+     *
+     * @return the threshold
+     */
+    @NotNull Duration getThreshold();
+
+    /**
+     * Sets the time a single run may take before it is reported. Runs are checked four times per threshold,
+     * so a run is reported at most a quarter of the threshold after passing it.
+     *
+     * @param threshold the threshold, must be positive
+     */
+    void setThreshold(@NotNull Duration threshold);
+
+    /**
+     * Returns the latest reports, oldest first.
+     *
+     * @return the reports
+     */
+    @NotNull List<SlowTask> getReports();
+
+    /**
+     * Discards all reports.
+     */
+    void clearReports();
+
+    /**
+     * A run that took longer than the threshold.
+     *
+     * @param timestamp   the time in milliseconds since the epoch the run was caught
+     * @param type        the scheduler type
+     * @param label       the label of the task
+     * @param thread      the name of the thread running the task
+     * @param submittedAt the site that submitted the task, or null if it is unknown
+     * @param elapsed     the time in nanoseconds the run had taken when it was caught
+     * @param stackTrace  the stack of the thread when the run was caught
+     */
+    record SlowTask(long timestamp, @NotNull SchedulerType type, @NotNull String label, @NotNull String thread,
+                    @Nullable String submittedAt, long elapsed, @NotNull List<StackTraceElement> stackTrace) {}
+}
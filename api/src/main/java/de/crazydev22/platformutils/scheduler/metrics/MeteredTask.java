@@ -0,0 +1,265 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.scheduler.metrics;
+
+import de.crazydev22.platformutils.scheduler.task.CompletableTask;
+import de.crazydev22.platformutils.scheduler.task.Task;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A recorded task. The same object is handed to the platform in place of the task and returned to the caller in
+ * place of the platform handle, so recording a task costs a single allocation. Cancelling through this handle
+ * before the first run counts the task as cancelled, which keeps the pending count exact.
+ * <p>
+ * {@link #started} is a plain field: a run and a successful cancel of the same task are already ordered by the
+ * platform, which only reports {@link CancelledState#CANCELLED_BY_CALLER} if the task is not running.
+ */
+@SuppressWarnings("unchecked")
+final class MeteredTask<R> implements CompletableTask<R>, Function<CompletableTask<R>, R>, Consumer<Task>, Runnable, Callable<R> {
+    final SchedulerType type;
+    final String label;
+    final Object target;
+    final int chunkX;
+    final int chunkZ;
+    private final Recorder recorder;
+    private final Object task;
+    private final long period;
+    private final boolean timed;
+    private final boolean events;
+    long runStart;
+    String site;
+    private TaskWatchdog watchdog;
+    private MeteredTask<?> outer;
+    private long expected;
+    private boolean started;
+    private Object execution;
+    private Task delegate;
+
+    /**
+     * Creates a recorded task and counts it as submitted.
+     *
+     * @param type     the scheduler type
+     * @param label    the label of the task
+     * @param recorder the recorder of the scheduler type and label, or null if metrics are disabled
+     * @param task     the task, either a {@link Function}, {@link Consumer}, {@link Runnable} or {@link Callable}
+     * @param target   the world or entity the task runs on, or null
+     * @param chunkX   the chunk x coordinate the task runs at
+     * @param chunkZ   the chunk z coordinate the task runs at
+     * @param delay    the requested delay of the first run in nanoseconds
+     * @param period   the period between runs in nanoseconds, or {@code 0} if the task does not repeat
+     * @param timed    whether to record the execution time and scheduling delay of the runs
+     * @param events   whether to emit flight recorder events
+     */
+    MeteredTask(SchedulerType type, String label, Recorder recorder, Object task, Object target, int chunkX, int chunkZ,
+                long delay, long period, boolean timed, boolean events) {
+        this.type = type;
+        this.label = label;
+        this.recorder = recorder;
+        this.task = task;
+        this.target = target;
+        this.chunkX = chunkX;
+        this.chunkZ = chunkZ;
+        this.period = period;
+        this.timed = timed || events;
+        this.events = events;
+        if (this.timed) expected = System.nanoTime() + delay;
+        if (recorder != null) recorder.submitted();
+        if (events) TaskEvents.scheduled(this, delay, period);
+    }
+
+    /**
+     * Lets the watchdog watch the runs of this task, the task must be timed.
+     *
+     * @param watchdog the watchdog
+     * @param site     the site that submitted the task, or null if it is unknown
+     */
+    void watch(TaskWatchdog watchdog, String site) {
+        this.watchdog = watchdog;
+        this.site = site;
+    }
+
+    Function<CompletableTask<R>, R> function() {
+        return this;
+    }
+
+    Consumer<Task> consumer() {
+        return this;
+    }
+
+    Runnable runnable() {
+        return this;
+    }
+
+    Callable<R> callable() {
+        return this;
+    }
+
+    /**
+     * Wraps the retired callback of an entity task, a task retired before its first run is counted as cancelled.
+     *
+     * @param retired the callback, may be null
+     * @return the wrapped callback
+     */
+    Runnable retired(Runnable retired) {
+        return () -> {
+            if (events) TaskEvents.retired(this);
+            removed();
+            if (retired != null) retired.run();
+        };
+    }
+
+    /**
+     * Binds the platform handle of this task.
+     *
+     * @param delegate the platform handle, or null if the platform refused the task
+     * @return this task, or null if the platform refused it
+     */
+    <T extends Task> T bind(Task delegate) {
+        if (delegate == null) {
+            removed();
+            return null;
+        }
+        this.delegate = delegate;
+        return (T) this;
+    }
+
+    /**
+     * Counts this task as cancelled if it did not run yet.
+     */
+    void removed() {
+        if (started) return;
+        started = true;
+        if (recorder != null) recorder.cancelled();
+    }
+
+    @Override
+    public R apply(CompletableTask<R> t) {
+        final long start = begin();
+        try {
+            return ((Function<CompletableTask<R>, R>) task).apply(t);
+        } finally {
+            end(start);
+        }
+    }
+
+    @Override
+    public void accept(Task t) {
+        final long start = begin();
+        try {
+            ((Consumer<Task>) task).accept(t);
+        } finally {
+            end(start);
+        }
+    }
+
+    @Override
+    public void run() {
+        final long start = begin();
+        try {
+            ((Runnable) task).run();
+        } finally {
+            end(start);
+        }
+    }
+
+    @Override
+    public R call() throws Exception {
+        final long start = begin();
+        try {
+            return ((Callable<R>) task).call();
+        } finally {
+            end(start);
+        }
+    }
+
+    private long begin() {
+        if (!started) {
+            started = true;
+            if (recorder != null) recorder.started();
+        }
+        if (events) execution = TaskEvents.started();
+        if (!timed) return 0;
+        final long start = System.nanoTime();
+        if (watchdog != null) {
+            runStart = start;
+            outer = watchdog.enter(this);
+        }
+        return start;
+    }
+
+    private void end(long start) {
+        if (!timed) return;
+        if (watchdog != null) watchdog.exit(outer);
+        final long delay = Math.max(0, start - expected);
+        if (recorder != null) recorder.sampled(delay, System.nanoTime() - start);
+        if (events) TaskEvents.finished(this, execution, delay);
+        expected = start + period;
+    }
+
+    @Override
+    public @NotNull Plugin getOwner() {
+        return delegate.getOwner();
+    }
+
+    @Override
+    public boolean isRepeating() {
+        return delegate.isRepeating();
+    }
+
+    @Override
+    public boolean isAsync() {
+        return delegate.isAsync();
+    }
+
+    @Override
+    public @NotNull CancelledState cancel() {
+        final CancelledState state = delegate.cancel();
+        if (state == CancelledState.CANCELLED_BY_CALLER) {
+            if (events) TaskEvents.cancelled(this);
+            removed();
+        }
+        return state;
+    }
+
+    @Override
+    public @NotNull ExecutionState getExecutionState() {
+        return delegate.getExecutionState();
+    }
+
+    @Override
+    public @NotNull CompletableFuture<R> getResult() {
+        return ((CompletableTask<R>) delegate).getResult();
+    }
+
+    @Override
+    public void complete(@NotNull Function<CompletableTask<R>, R> function) {
+        ((CompletableTask<R>) delegate).complete(function);
+    }
+}
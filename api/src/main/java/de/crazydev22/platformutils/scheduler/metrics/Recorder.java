@@ -0,0 +1,116 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.scheduler.metrics;
+
+import de.crazydev22.platformutils.scheduler.metrics.ISchedulerMetrics.Histogram;
+import de.crazydev22.platformutils.scheduler.metrics.ISchedulerMetrics.TaskStatistics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The counters of a single scheduler type and label. Every counter is striped over several arrays selected by the
+ * recording thread, so threads rarely contend on the same cache line and recording never takes a lock.
+ * <p>
+ * The counters are exact, the histograms only contain the runs that were sampled.
+ */
+final class Recorder {
+    private static final int BUCKETS = 64;
+    private static final int SUBMITTED = 0;
+    private static final int CANCELLED = 1;
+    private static final int STARTED = 2;
+    private static final int EXECUTION_SUM = 3;
+    private static final int DELAY_SUM = 4;
+    private static final int EXECUTION = 5;
+    private static final int DELAY = EXECUTION + BUCKETS;
+    private static final int LENGTH = DELAY + BUCKETS;
+    private static final int STRIPES = Integer.highestOneBit(Math.min(64, Runtime.getRuntime().availableProcessors()) * 2 - 1);
+
+    private final AtomicLongArray[] stripes = new AtomicLongArray[STRIPES];
+
+    Recorder() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new AtomicLongArray(LENGTH);
+        }
+    }
+
+    @SuppressWarnings("deprecation")
+    private AtomicLongArray stripe() {
+        return stripes[(int) Thread.currentThread().getId() & (STRIPES - 1)];
+    }
+
+    void submitted() {
+        stripe().getAndIncrement(SUBMITTED);
+    }
+
+    void cancelled() {
+        stripe().getAndIncrement(CANCELLED);
+    }
+
+    void started() {
+        stripe().getAndIncrement(STARTED);
+    }
+
+    void sampled(long delay, long duration) {
+        final AtomicLongArray stripe = stripe();
+        stripe.getAndIncrement(DELAY + bucket(delay));
+        stripe.getAndAdd(DELAY_SUM, delay);
+        stripe.getAndIncrement(EXECUTION + bucket(duration));
+        stripe.getAndAdd(EXECUTION_SUM, duration);
+    }
+
+    TaskStatistics snapshot(SchedulerType type, String label) {
+        final long[] sums = new long[LENGTH];
+        for (AtomicLongArray stripe : stripes) {
+            for (int i = 0; i < LENGTH; i++) {
+                sums[i] += stripe.get(i);
+            }
+        }
+
+        final long pending = sums[SUBMITTED] - sums[STARTED] - sums[CANCELLED];
+        return new TaskStatistics(type, label, sums[SUBMITTED], sums[STARTED], sums[CANCELLED], Math.max(0, pending),
+                histogram(sums, EXECUTION, EXECUTION_SUM), histogram(sums, DELAY, DELAY_SUM));
+    }
+
+    void reset() {
+        for (AtomicLongArray stripe : stripes) {
+            for (int i = 0; i < LENGTH; i++) {
+                stripe.set(i, 0);
+            }
+        }
+    }
+
+    private static Histogram histogram(long[] sums, int offset, int sum) {
+        final long[] buckets = new long[BUCKETS];
+        System.arraycopy(sums, offset, buckets, 0, BUCKETS);
+        long count = 0;
+        for (long bucket : buckets) {
+            count += bucket;
+        }
+        return new Histogram(count, sums[sum], buckets);
+    }
+
+    private static int bucket(long value) {
+        return value <= 0 ? 0 : Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(value));
+    }
+}
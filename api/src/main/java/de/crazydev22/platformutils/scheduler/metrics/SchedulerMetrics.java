@@ -0,0 +1,428 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.scheduler.metrics;
+
+import de.crazydev22.platformutils.scheduler.IAsyncScheduler;
+import de.crazydev22.platformutils.scheduler.IEntityScheduler;
+import de.crazydev22.platformutils.scheduler.IGlobalScheduler;
+import de.crazydev22.platformutils.scheduler.IRegionExecutor;
+import de.crazydev22.platformutils.scheduler.IRegionScheduler;
+import de.crazydev22.platformutils.scheduler.task.CompletableTask;
+import de.crazydev22.platformutils.scheduler.task.Task;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Range;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Platform independent implementation of {@link ISchedulerMetrics} that decorates the schedulers of the platform.
+ * <p>
+ * The platform only hands out the decorated schedulers while metrics are enabled or a flight recording is running,
+ * so disabled metrics cost nothing. While recording, every task emits the events of {@link TaskEvents}.
+ */
+@ApiStatus.Internal
+public final class SchedulerMetrics implements ISchedulerMetrics, Listener {
+    /**
+     * The label of tasks submitted without a label while callsites are not captured.
+     */
+    public static final String DEFAULT_LABEL = "unlabeled";
+    /**
+     * The number of tasks per timed task if no sampling interval is configured.
+     */
+    public static final int DEFAULT_SAMPLING_INTERVAL = 16;
+    private static final SchedulerType[] TYPES = SchedulerType.values();
+    private static final long TICK = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final String LIBRARY = SchedulerMetrics.class.getPackageName().replace("scheduler.metrics", "");
+    private static final StackWalker WALKER = StackWalker.getInstance();
+    private static final boolean EVENTS = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
+    @SuppressWarnings("unchecked")
+    private final Map<String, Recorder>[] recorders = new Map[TYPES.length];
+    private final ThreadLocal<String> label = new ThreadLocal<>();
+    private final Plugin plugin;
+    private final TaskWatchdog watchdog;
+    private volatile boolean enabled;
+    private volatile boolean callsites;
+    private volatile int samplingInterval = DEFAULT_SAMPLING_INTERVAL;
+
+    public SchedulerMetrics(@NotNull Plugin plugin) {
+        this.plugin = plugin;
+        this.watchdog = new TaskWatchdog(plugin);
+        for (int i = 0; i < TYPES.length; i++) {
+            recorders[i] = new ConcurrentHashMap<>();
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean isCapturingCallsites() {
+        return callsites;
+    }
+
+    @Override
+    public void setCapturingCallsites(boolean capture) {
+        this.callsites = capture;
+    }
+
+    @Override
+    public int getSamplingInterval() {
+        return samplingInterval;
+    }
+
+    @Override
+    public void setSamplingInterval(@Range(from = 1, to = Integer.MAX_VALUE) int interval) {
+        if (interval < 1) throw new IllegalArgumentException("interval must be positive");
+        this.samplingInterval = interval;
+    }
+
+    @Override
+    public @NotNull Label label(@NotNull String label) {
+        final String previous = this.label.get();
+        this.label.set(label);
+        return () -> {
+            if (previous == null) this.label.remove();
+            else this.label.set(previous);
+        };
+    }
+
+    @Override
+    public @NotNull List<TaskStatistics> getStatistics() {
+        final List<TaskStatistics> statistics = new ArrayList<>();
+        for (SchedulerType type : TYPES) {
+            recorders[type.ordinal()].forEach((label, recorder) -> statistics.add(recorder.snapshot(type, label)));
+        }
+        return statistics;
+    }
+
+    @Override
+    public void reset() {
+        for (Map<String, Recorder> map : recorders) {
+            map.values().forEach(Recorder::reset);
+        }
+    }
+
+    /**
+     * Decorates a global scheduler to record the tasks submitted to it.
+     *
+     * @param delegate the global scheduler to decorate
+     * @return the recording global scheduler
+     */
+    public @NotNull IGlobalScheduler global(@NotNull IGlobalScheduler delegate) {
+        return new Global(delegate);
+    }
+
+    /**
+     * Decorates a region scheduler to record the tasks submitted to it.
+     *
+     * @param delegate the region scheduler to decorate
+     * @return the recording region scheduler
+     */
+    public @NotNull IRegionScheduler region(@NotNull IRegionScheduler delegate) {
+        return new Region(delegate);
+    }
+
+    /**
+     * Decorates an async scheduler to record the tasks submitted to it.
+     *
+     * @param delegate the async scheduler to decorate
+     * @return the recording async scheduler
+     */
+    public @NotNull IAsyncScheduler async(@NotNull IAsyncScheduler delegate) {
+        return new Async(delegate);
+    }
+
+    /**
+     * Decorates an entity scheduler to record the tasks submitted to it.
+     *
+     * @param delegate the entity scheduler to decorate
+     * @param entity   the entity the scheduler belongs to
+     * @return the recording entity scheduler
+     */
+    public @NotNull IEntityScheduler entity(@NotNull IEntityScheduler delegate, @NotNull Entity entity) {
+        return new EntityMetered(delegate, entity);
+    }
+
+    /**
+     * Decorates a region executor to record the tasks submitted to it.
+     *
+     * @param delegate the region executor to decorate
+     * @return the recording region executor
+     */
+    public @NotNull IRegionExecutor regionExecutor(@NotNull IRegionExecutor delegate) {
+        return new RegionExecutor(delegate);
+    }
+
+    /**
+     * Returns whether the platform should hand out decorated schedulers, either because metrics are enabled or
+     * because a flight recording is running.
+     *
+     * @return true if tasks are recorded
+     */
+    public boolean isActive() {
+        return enabled || watchdog.isEnabled() || EVENTS && TaskEvents.isRecording();
+    }
+
+    @Override
+    public @NotNull ITaskWatchdog getWatchdog() {
+        return watchdog;
+    }
+
+    @EventHandler
+    public void onPluginDisable(PluginDisableEvent event) {
+        if (event.getPlugin() == plugin) watchdog.setEnabled(false);
+    }
+
+    private Recorder recorder(SchedulerType type, String label) {
+        final Map<String, Recorder> map = recorders[type.ordinal()];
+        final Recorder recorder = map.get(label);
+        return recorder != null ? recorder : map.computeIfAbsent(label, l -> new Recorder());
+    }
+
+    private static String callsite() {
+        return WALKER.walk(frames -> frames
+                .filter(frame -> !frame.getClassName().startsWith(LIBRARY))
+                .findFirst()
+                .map(frame -> frame.getClassName() + "#" + frame.getMethodName() + ":" + frame.getLineNumber())
+                .orElse(null));
+    }
+
+    private <R> MeteredTask<R> task(SchedulerType type, Object task, long delay, long period) {
+        return task(type, task, null, 0, 0, delay, period);
+    }
+
+    private <R> MeteredTask<R> task(SchedulerType type, Object task, Object target, int chunkX, int chunkZ, long delay, long period) {
+        String label = this.label.get();
+        String site = null;
+        if (label == null && callsites) site = callsite();
+        if (label == null) label = site != null ? site : DEFAULT_LABEL;
+        final boolean events = EVENTS && TaskEvents.isRecording();
+        final boolean watched = type != SchedulerType.ASYNC && watchdog.isEnabled();
+        final int interval = samplingInterval;
+        final boolean timed = watched || period > 0 || interval == 1 || ThreadLocalRandom.current().nextInt(interval) == 0;
+        final MeteredTask<R> metered = new MeteredTask<>(type, label, enabled ? recorder(type, label) : null, task,
+                target, chunkX, chunkZ, delay, period, timed, events);
+        if (watched) metered.watch(watchdog, site != null ? site : callsite());
+        return metered;
+    }
+
+    private final class Global implements IGlobalScheduler {
+        private final IGlobalScheduler delegate;
+
+        private Global(IGlobalScheduler delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public @NotNull <R> CompletableTask<R> run(@NotNull Function<CompletableTask<R>, R> task) {
+            final MeteredTask<R> metered = task(SchedulerType.GLOBAL, task, 0, 0);
+            return metered.bind(delegate.run(metered.function()));
+        }
+
+        @Override
+        public void execute(@NotNull Runnable task) {
+            delegate.execute(task(SchedulerType.GLOBAL, task, 0, 0).runnable());
+        }
+
+        @Override
+        public @NotNull <R> CompletableTask<R> runDelayed(@NotNull Function<CompletableTask<R>, R> task,
+                                                          @Range(from = 1, to = Long.MAX_VALUE) long delayTicks) {
+            final MeteredTask<R> metered = task(SchedulerType.GLOBAL, task, delayTicks * TICK, 0);
+            return metered.bind(delegate.runDelayed(metered.function(), delayTicks));
+        }
+
+        @Override
+        public @NotNull Task runAtFixedRate(@NotNull Consumer<Task> task,
+                                            @Range(from = 1, to = Long.MAX_VALUE) long initialDelayTicks,
+                                            @Range(from = 1, to = Long.MAX_VALUE) long periodTicks) {
+            final MeteredTask<Void> metered = task(SchedulerType.GLOBAL, task, initialDelayTicks * TICK, periodTicks * TICK);
+            return metered.bind(delegate.runAtFixedRate(metered.consumer(), initialDelayTicks, periodTicks));
+        }
+    }
+
+    private final class Region implements IRegionScheduler {
+        private final IRegionScheduler delegate;
+
+        private Region(IRegionScheduler delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public @NotNull <R> CompletableTask<R> run(@NotNull World world, int chunkX, int chunkZ,
+                                                   @NotNull Function<CompletableTask<R>, R> task) {
+            final MeteredTask<R> metered = task(SchedulerType.REGION, task, world, chunkX, chunkZ, 0, 0);
+            return metered.bind(delegate.run(world, chunkX, chunkZ, metered.function()));
+        }
+
+        @Override
+        public void execute(@NotNull World world, int chunkX, int chunkZ, @NotNull Runnable task) {
+            delegate.execute(world, chunkX, chunkZ, task(SchedulerType.REGION, task, world, chunkX, chunkZ, 0, 0).runnable());
+        }
+
+        @Override
+        public @NotNull <R> CompletableTask<R> runDelayed(@NotNull World world, int chunkX, int chunkZ,
+                                                          @NotNull Function<CompletableTask<R>, R> task,
+                                                          @Range(from = 1, to = Long.MAX_VALUE) long delayTicks) {
+            final MeteredTask<R> metered = task(SchedulerType.REGION, task, world, chunkX, chunkZ, delayTicks * TICK, 0);
+            return metered.bind(delegate.runDelayed(world, chunkX, chunkZ, metered.function(), delayTicks));
+        }
+
+        @Override
+        public @NotNull Task runAtFixedRate(@NotNull World world, int chunkX, int chunkZ,
+                                            @NotNull Consumer<Task> task,
+                                            @Range(from = 1, to = Long.MAX_VALUE) long initialDelayTicks,
+                                            @Range(from = 1, to = Long.MAX_VALUE) long periodTicks) {
+            final MeteredTask<Void> metered = task(SchedulerType.REGION, task, world, chunkX, chunkZ, initialDelayTicks * TICK, periodTicks * TICK);
+            return metered.bind(delegate.runAtFixedRate(world, chunkX, chunkZ, metered.consumer(), initialDelayTicks, periodTicks));
+        }
+    }
+
+    private final class Async implements IAsyncScheduler {
+        private final IAsyncScheduler delegate;
+
+        private Async(IAsyncScheduler delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public @NotNull <R> CompletableTask<R> run(@NotNull Function<CompletableTask<R>, R> task) {
+            final MeteredTask<R> metered = task(SchedulerType.ASYNC, task, 0, 0);
+            return metered.bind(delegate.run(metered.function()));
+        }
+
+        @Override
+        public void execute(@NotNull Runnable task) {
+            delegate.execute(task(SchedulerType.ASYNC, task, 0, 0).runnable());
+        }
+
+        @Override
+        public @NotNull <R> CompletableTask<R> runDelayed(@NotNull Function<CompletableTask<R>, R> task,
+                                                          @Range(from = 0, to = Long.MAX_VALUE) long delay,
+                                                          @NotNull TimeUnit unit) {
+            final MeteredTask<R> metered = task(SchedulerType.ASYNC, task, unit.toNanos(delay), 0);
+            return metered.bind(delegate.runDelayed(metered.function(), delay, unit));
+        }
+
+        @Override
+        public @NotNull Task runAtFixedRate(@NotNull Consumer<Task> task,
+                                            @Range(from = 0, to = Long.MAX_VALUE) long initialDelay,
+                                            @Range(from = 1, to = Long.MAX_VALUE) long period,
+                                            @NotNull TimeUnit unit) {
+            final MeteredTask<Void> metered = task(SchedulerType.ASYNC, task, unit.toNanos(initialDelay), unit.toNanos(period));
+            return metered.bind(delegate.runAtFixedRate(metered.consumer(), initialDelay, period, unit));
+        }
+    }
+
+    private final class EntityMetered implements IEntityScheduler {
+        private final IEntityScheduler delegate;
+        private final Entity entity;
+
+        private EntityMetered(IEntityScheduler delegate, Entity entity) {
+            this.delegate = delegate;
+            this.entity = entity;
+        }
+
+        @Override
+        public @Nullable <R> CompletableTask<R> run(@NotNull Function<CompletableTask<R>, R> task,
+                                                    @Nullable Runnable retired) {
+            final MeteredTask<R> metered = task(SchedulerType.ENTITY, task, entity, 0, 0, 0, 0);
+            return metered.bind(delegate.run(metered.function(), metered.retired(retired)));
+        }
+
+        @Override
+        public boolean execute(@NotNull Runnable task, @Nullable Runnable retired,
+                               @Range(from = 1, to = Long.MAX_VALUE) long delayTicks) {
+            final MeteredTask<Void> metered = task(SchedulerType.ENTITY, task, entity, 0, 0, delayTicks * TICK, 0);
+            if (delegate.execute(metered.runnable(), metered.retired(retired), delayTicks)) return true;
+            metered.removed();
+            return false;
+        }
+
+        @Override
+        public @Nullable <R> CompletableTask<R> runDelayed(@NotNull Function<CompletableTask<R>, R> task,
+                                                           @Nullable Runnable retired,
+                                                           @Range(from = 1, to = Long.MAX_VALUE) long delayTicks) {
+            final MeteredTask<R> metered = task(SchedulerType.ENTITY, task, entity, 0, 0, delayTicks * TICK, 0);
+            return metered.bind(delegate.runDelayed(metered.function(), metered.retired(retired), delayTicks));
+        }
+
+        @Override
+        public @Nullable Task runAtFixedRate(@NotNull Consumer<Task> task,
+                                             @Nullable Runnable retired,
+                                             @Range(from = 1, to = Long.MAX_VALUE) long initialDelayTicks,
+                                             @Range(from = 1, to = Long.MAX_VALUE) long periodTicks) {
+            final MeteredTask<Void> metered = task(SchedulerType.ENTITY, task, entity, 0, 0, initialDelayTicks * TICK, periodTicks * TICK);
+            return metered.bind(delegate.runAtFixedRate(metered.consumer(), metered.retired(retired), initialDelayTicks, periodTicks));
+        }
+    }
+
+    private final class RegionExecutor implements IRegionExecutor {
+        private final IRegionExecutor delegate;
+
+        private RegionExecutor(IRegionExecutor delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public <T> CompletableFuture<T> queue(@NotNull World world, int chunkX, int chunkZ, @NotNull Callable<T> callable) {
+            final MeteredTask<T> metered = task(SchedulerType.REGION_EXECUTOR, callable, world, chunkX, chunkZ, 0, 0);
+            return delegate.queue(world, chunkX, chunkZ, metered.callable());
+        }
+
+        @Override
+        public @NotNull List<RegionStatistics> getStatistics() {
+            return delegate.getStatistics();
+        }
+
+        @Override
+        public void close() throws Exception {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.scheduler.metrics;
+
+import jdk.jfr.*;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+
+/**
+ * Emits the flight recorder events of recorded tasks. This class is only loaded if the {@code jdk.jfr} module is
+ * present, all event classes are hidden behind its methods.
+ * <p>
+ * The platforms only decorate their schedulers while a recording is running, which is tracked by a
+ * {@link FlightRecorderListener}, so no task pays for the events while nothing is recorded.
+ */
+final class TaskEvents {
+    private static volatile boolean recording;
+
+    static {
+        FlightRecorder.addListener(new FlightRecorderListener() {
+            @Override
+            public void recorderInitialized(FlightRecorder recorder) {
+                update();
+            }
+
+            @Override
+            public void recordingStateChanged(Recording recording) {
+                update();
+            }
+        });
+        update();
+    }
+
+    private TaskEvents() {}
+
+    static boolean isRecording() {
+        return recording;
+    }
+
+    private static void update() {
+        recording = FlightRecorder.isInitialized() && FlightRecorder.getFlightRecorder()
+                .getRecordings()
+                .stream()
+                .anyMatch(r -> r.getState() == RecordingState.RUNNING);
+    }
+
+    static void scheduled(MeteredTask<?> task, long delay, long period) {
+        final var event = new Scheduled();
+        if (!event.isEnabled()) return;
+        event.describe(task);
+        event.delay = delay;
+        event.period = period;
+        event.commit();
+    }
+
+    static Object started() {
+        final var event = new Execution();
+        if (!event.isEnabled()) return null;
+        event.begin();
+        return event;
+    }
+
+    static void finished(MeteredTask<?> task, Object started, long delay) {
+        if (!(started instanceof Execution event)) return;
+        event.end();
+        if (!event.shouldCommit()) return;
+        event.describe(task);
+        event.schedulingDelay = delay;
+        event.commit();
+    }
+
+    static void cancelled(MeteredTask<?> task) {
+        final var event = new Cancelled();
+        if (!event.isEnabled()) return;
+        event.describe(task);
+        event.commit();
+    }
+
+    static void retired(MeteredTask<?> task) {
+        final var event = new Retired();
+        if (!event.isEnabled()) return;
+        event.describe(task);
+        event.commit();
+    }
+
+    @Category({"PlatformUtils", "Scheduler"})
+    private abstract static class TaskEvent extends Event {
+        @Label("Scheduler")
+        String scheduler;
+        @Label("Label")
+        String label;
+        @Label("World")
+        String world;
+        @Label("Chunk X")
+        int chunkX;
+        @Label("Chunk Z")
+        int chunkZ;
+        @Label("Entity")
+        String entity;
+
+        void describe(MeteredTask<?> task) {
+            scheduler = task.type.name();
+            label = task.label;
+            if (task.target instanceof World w) {
+                world = w.getName();
+                chunkX = task.chunkX;
+                chunkZ = task.chunkZ;
+            } else if (task.target instanceof Entity e) {
+                world = e.getWorld().getName();
+                entity = e.getType() + " " + e.getUniqueId();
+            }
+        }
+    }
+
+    @Name("de.crazydev22.platformutils.TaskScheduled")
+    @Label("Task Scheduled")
+    @Description("A task was submitted to a scheduler")
+    private static final class Scheduled extends TaskEvent {
+        @Label("Delay")
+        @Timespan
+        long delay;
+        @Label("Period")
+        @Timespan
+        long period;
+    }
+
+    @Name("de.crazydev22.platformutils.TaskExecution")
+    @Label("Task Execution")
+    @Description("A run of a scheduled task")
+    @StackTrace(false)
+    private static final class Execution extends TaskEvent {
+        @Label("Scheduling Delay")
+        @Description("The time the run started later than requested")
+        @Timespan
+        long schedulingDelay;
+    }
+
+    @Name("de.crazydev22.platformutils.TaskCancelled")
+    @Label("Task Cancelled")
+    @Description("A scheduled task was cancelled by its handle")
+    private static final class Cancelled extends TaskEvent {}
+
+    @Name("de.crazydev22.platformutils.TaskRetired")
+    @Label("Task Retired")
+    @Description("The entity of a scheduled task was removed before the task finished")
+    @StackTrace(false)
+    private static final class Retired extends TaskEvent {}
+}
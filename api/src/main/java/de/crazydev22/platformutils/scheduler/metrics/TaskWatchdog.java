@@ -0,0 +1,181 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.scheduler.metrics;
+
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+
+/**
+ * Implementation of {@link ITaskWatchdog}. Every thread running a watched task owns a {@link Slot} holding the task
+ * it currently runs, the monitor thread scans all slots, so a run only costs two writes to its own slot.
+ */
+final class TaskWatchdog implements ITaskWatchdog {
+    /**
+     * The threshold if none is configured, one tick.
+     */
+    static final Duration DEFAULT_THRESHOLD = Duration.ofMillis(50);
+    private static final int CAPACITY = 64;
+    private static final long MIN_INTERVAL = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Plugin plugin;
+    private final Set<Slot> slots = ConcurrentHashMap.newKeySet();
+    private final ThreadLocal<Slot> slot = ThreadLocal.withInitial(this::register);
+    private final SlowTask[] reports = new SlowTask[CAPACITY];
+    private int next;
+    private int size;
+    private volatile long threshold = DEFAULT_THRESHOLD.toNanos();
+    private volatile boolean enabled;
+    private Thread monitor;
+
+    TaskWatchdog(@NotNull Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public synchronized void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled || monitor != null && monitor.isAlive()) return;
+        monitor = new Thread(this::monitor, plugin.getName() + " Task Watchdog");
+        monitor.setDaemon(true);
+        monitor.start();
+    }
+
+    @Override
+    public @NotNull Duration getThreshold() {
+        return Duration.ofNanos(threshold);
+    }
+
+    @Override
+    public void setThreshold(@NotNull Duration threshold) {
+        if (threshold.isNegative() || threshold.isZero()) throw new IllegalArgumentException("threshold must be positive");
+        this.threshold = threshold.toNanos();
+    }
+
+    @Override
+    public @NotNull List<SlowTask> getReports() {
+        synchronized (reports) {
+            final List<SlowTask> list = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                list.add(reports[Math.floorMod(next - size + i, CAPACITY)]);
+            }
+            return list;
+        }
+    }
+
+    @Override
+    public void clearReports() {
+        synchronized (reports) {
+            size = 0;
+        }
+    }
+
+    /**
+     * Marks the given task as running on the current thread.
+     *
+     * @param task the task that started its run
+     * @return the task that was running on this thread before, to be restored once the run finished
+     */
+    MeteredTask<?> enter(MeteredTask<?> task) {
+        final Slot slot = this.slot.get();
+        final MeteredTask<?> outer = slot.task;
+        slot.task = task;
+        return outer;
+    }
+
+    /**
+     * Marks the run of the current task of this thread as finished.
+     *
+     * @param outer the task returned by {@link #enter(MeteredTask)}
+     */
+    void exit(MeteredTask<?> outer) {
+        slot.get().task = outer;
+    }
+
+    private Slot register() {
+        final Slot slot = new Slot(Thread.currentThread());
+        slots.add(slot);
+        return slot;
+    }
+
+    private void monitor() {
+        while (enabled) {
+            final long threshold = this.threshold;
+            LockSupport.parkNanos(this, Math.max(MIN_INTERVAL, threshold / 4));
+
+            final long now = System.nanoTime();
+            for (Slot slot : slots) {
+                if (!slot.thread.isAlive()) {
+                    slots.remove(slot);
+                    continue;
+                }
+
+                final MeteredTask<?> task = slot.task;
+                if (task == null) continue;
+                final long start = task.runStart;
+                if (now - start < threshold || slot.reported == start) continue;
+
+                final StackTraceElement[] stack = slot.thread.getStackTrace();
+                if (slot.task != task || task.runStart != start) continue;
+                slot.reported = start;
+                report(new SlowTask(System.currentTimeMillis(), task.type, task.label, slot.thread.getName(),
+                        task.site, System.nanoTime() - start, List.of(stack)));
+            }
+        }
+    }
+
+    private void report(SlowTask report) {
+        synchronized (reports) {
+            reports[next] = report;
+            next = (next + 1) % CAPACITY;
+            if (size < CAPACITY) size++;
+        }
+        plugin.getLogger().log(Level.WARNING, "Task " + report.label() + " on " + report.thread() + " is running for over "
+                + TimeUnit.NANOSECONDS.toMillis(report.elapsed()) + "ms"
+                + (report.submittedAt() != null ? ", submitted at " + report.submittedAt() : ""));
+    }
+
+    private static final class Slot {
+        private final Thread thread;
+        private volatile MeteredTask<?> task;
+        private long reported;
+
+        private Slot(Thread thread) {
+            this.thread = thread;
+        }
+    }
+}
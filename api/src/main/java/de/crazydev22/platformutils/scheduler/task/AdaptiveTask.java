@@ -0,0 +1,55 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.scheduler.task;
+
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * Represents a repeating task whose period adapts to the load of the thread it runs on. The period grows towards
+ * the maximum while ticks take too long and shrinks towards the minimum once they are fast again.
+ */
+@ApiStatus.NonExtendable
+public interface AdaptiveTask extends Task {
+
+    /**
+     * Returns the period the next run is scheduled with.
+     *
+     * @return the current period, in ticks
+     */
+    long getPeriod();
+
+    /**
+     * Returns the period the task runs with while the server is not under load.
+     *
+     * @return the minimum period, in ticks
+     */
+    long getMinPeriod();
+
+    /**
+     * Returns the period the task backs off to at most while the server is under load.
+     *
+     * @return the maximum period, in ticks
+     */
+    long getMaxPeriod();
+}
@@ -0,0 +1,267 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.scheduler.task;
+
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A task whose execution state is tracked by this library instead of the platform. It is used wherever the
+ * underlying scheduler does not report the state of its tasks, like the {@link org.bukkit.scheduler.BukkitScheduler}
+ * or a plain executor.
+ */
+@ApiStatus.Internal
+public class ManagedTask implements Task {
+    protected final Plugin plugin;
+    protected final boolean repeating;
+    protected final boolean async;
+    private final AtomicReference<ExecutionState> state = new AtomicReference<>(ExecutionState.IDLE);
+    private volatile Object task;
+
+    public ManagedTask(@NotNull Plugin plugin, boolean repeating, boolean async) {
+        this.plugin = plugin;
+        this.repeating = repeating;
+        this.async = async;
+    }
+
+    /**
+     * Binds the scheduled bukkit task to this wrapper. The wrapper is handed to the scheduler before the
+     * bukkit task exists, so a cancellation that happened in between is forwarded here.
+     *
+     * @param task the bukkit task
+     */
+    public void bind(@Nullable BukkitTask task) {
+        if (task == null) return;
+        this.task = task;
+        if (isCancelled()) task.cancel();
+    }
+
+    /**
+     * Binds the future of a task scheduled on an executor to this wrapper.
+     *
+     * @param future the future of the scheduled task
+     * @see #bind(BukkitTask)
+     */
+    public void bind(@Nullable Future<?> future) {
+        if (future == null) return;
+        this.task = future;
+        if (isCancelled()) future.cancel(false);
+    }
+
+    /**
+     * Binds an action that removes the scheduled task from a scheduler implemented by this library.
+     *
+     * @param cancel the action cancelling the underlying task
+     * @see #bind(BukkitTask)
+     */
+    public void bind(@Nullable Runnable cancel) {
+        if (cancel == null) return;
+        this.task = cancel;
+        if (isCancelled()) cancel.run();
+    }
+
+    @Override
+    public @NotNull Plugin getOwner() {
+        return plugin;
+    }
+
+    @Override
+    public boolean isRepeating() {
+        return repeating;
+    }
+
+    @Override
+    public boolean isAsync() {
+        return async;
+    }
+
+    @Override
+    public @NotNull CancelledState cancel() {
+        for (var curr = this.state.get();;) {
+            switch (curr) {
+                case IDLE -> {
+                    if (ExecutionState.IDLE != (curr = state.compareAndExchange(ExecutionState.IDLE, ExecutionState.CANCELLED)))
+                        continue;
+                    cancelTask();
+                    return CancelledState.CANCELLED_BY_CALLER;
+                }
+                case RUNNING -> {
+                    if (!repeating) return CancelledState.RUNNING;
+                    if (ExecutionState.RUNNING != (curr = state.compareAndExchange(ExecutionState.RUNNING, ExecutionState.CANCELLED_RUNNING)))
+                        continue;
+                    cancelTask();
+                    return CancelledState.NEXT_RUNS_CANCELLED;
+                }
+                case CANCELLED_RUNNING -> {
+                    return CancelledState.NEXT_RUNS_CANCELLED_ALREADY;
+                }
+                case FINISHED -> {
+                    return CancelledState.ALREADY_EXECUTED;
+                }
+                case CANCELLED -> {
+                    return CancelledState.CANCELLED_ALREADY;
+                }
+            };
+        }
+    }
+
+    private void cancelTask() {
+        final Object task = this.task;
+        if (task instanceof BukkitTask bukkit) bukkit.cancel();
+        else if (task instanceof Future<?> future) future.cancel(false);
+        else if (task instanceof Runnable cancel) cancel.run();
+    }
+
+    /**
+     * Called when the executor refused to run the task. A repeating task only skips this run,
+     * any other task is cancelled.
+     *
+     * @param cause the reason the task was refused
+     */
+    public void reject(@NotNull Throwable cause) {
+        if (!repeating) cancel();
+    }
+
+    @Override
+    public @NotNull ExecutionState getExecutionState() {
+        return state.get();
+    }
+
+    public void run(Consumer<Task> action) {
+        if (ExecutionState.IDLE != state.compareAndExchange(ExecutionState.IDLE, ExecutionState.RUNNING))
+            return;
+
+        try {
+            action.accept(this);
+        } finally {
+            if (!repeating) state.set(ExecutionState.FINISHED);
+            else if (ExecutionState.RUNNING != state.compareAndExchange(ExecutionState.RUNNING, ExecutionState.IDLE))
+                state.set(ExecutionState.CANCELLED);
+        }
+    }
+
+    /**
+     * A task producing a result. The {@link CompletableFuture} is only created once {@link #getResult()} is called,
+     * until then the outcome is kept in a single field and handed to the future when it is requested.
+     */
+    @ApiStatus.Internal
+    public static class Completable<T> extends ManagedTask implements CompletableTask<T> {
+        private static final VarHandle OUTCOME;
+        private static final VarHandle RESULT;
+        private static final Object NIL = new Object();
+        private static final Object CANCELLED = new Object();
+        private volatile Object outcome;
+        private volatile CompletableFuture<T> result;
+
+        public Completable(@NotNull Plugin plugin, boolean async) {
+            super(plugin, false, async);
+        }
+
+        @Override
+        public void complete(@NotNull Function<CompletableTask<T>, T> function) {
+            run(t -> {
+                if (isDone()) return;
+                try {
+                    final T value = function.apply(this);
+                    publish(value != null ? value : NIL);
+                } catch (Throwable e) {
+                    publish(new Failure(e));
+                }
+            });
+        }
+
+        @Override
+        public @NotNull CancelledState cancel() {
+            final CancelledState state = super.cancel();
+            if (state == CancelledState.CANCELLED_BY_CALLER || state == CancelledState.CANCELLED_ALREADY) {
+                publish(CANCELLED);
+            }
+            return state;
+        }
+
+        @Override
+        public void reject(@NotNull Throwable cause) {
+            if (super.cancel() == CancelledState.CANCELLED_BY_CALLER) {
+                publish(new Failure(cause));
+            }
+        }
+
+        @Override
+        public @NotNull CompletableFuture<T> getResult() {
+            CompletableFuture<T> result = this.result;
+            if (result != null) return result;
+            if (!RESULT.compareAndSet(this, null, result = new CompletableFuture<>()))
+                return this.result;
+
+            final Object outcome = this.outcome;
+            if (outcome != null) publish(outcome, result);
+            return result;
+        }
+
+        /**
+         * Checks whether the result is settled, either by this task or by completing the future directly.
+         */
+        private boolean isDone() {
+            if (outcome != null) return true;
+            final CompletableFuture<T> result = this.result;
+            return result != null && result.isDone();
+        }
+
+        private void publish(Object outcome) {
+            if (!OUTCOME.compareAndSet(this, null, outcome)) return;
+            final CompletableFuture<T> result = this.result;
+            if (result != null) publish(outcome, result);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void publish(Object outcome, CompletableFuture<T> result) {
+            if (outcome == CANCELLED) result.cancel(false);
+            else if (outcome instanceof Failure failure) result.completeExceptionally(failure.cause);
+            else result.complete(outcome == NIL ? null : (T) outcome);
+        }
+
+        static {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                OUTCOME = lookup.findVarHandle(Completable.class, "outcome", Object.class);
+                RESULT = lookup.findVarHandle(Completable.class, "result", CompletableFuture.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private record Failure(Throwable cause) {}
+    }
+}
@@ -0,0 +1,53 @@
+plugins {
+    alias(libs.plugins.jmh)
+}
+
+// virtual threads are only available on Java 21
+java.toolchain.languageVersion.set(JavaLanguageVersion.of(21))
+
+dependencies {
+    jmh(project(":api"))
+    jmh(project(":platform:spigot"))
+    jmh(project(":platform:paper"))
+    jmh(libs.folia)
+}
+
+jmh {
+    jmhVersion = libs.versions.jmh
+    benchmarkMode = listOf("thrpt", "sample")
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("reports/jmh/results.json")
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+    timeUnit = "us"
+}
+
+tasks {
+    val checkExecuteAllocations by registering(JavaExec::class) {
+        group = "verification"
+        description = "Checks that execute allocates no more objects per submission than documented."
+        classpath = sourceSets["jmh"].runtimeClasspath
+        mainClass = "de.crazydev22.platformutils.benchmark.ExecuteAllocationCheck"
+    }
+
+    val checkRunLatency by registering(JavaExec::class) {
+        group = "verification"
+        description = "Checks the number of ticks run takes from submission to execution."
+        classpath = sourceSets["jmh"].runtimeClasspath
+        mainClass = "de.crazydev22.platformutils.benchmark.RunLatencyCheck"
+    }
+
+    check {
+        dependsOn(checkExecuteAllocations, checkRunLatency)
+    }
+
+    jmhJar {
+        manifest.attributes("Multi-Release" to "true")
+    }
+
+    javadoc {
+        enabled = false
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.benchmark;
+
+import de.crazydev22.platformutils.benchmark.fake.FakeServer;
+import de.crazydev22.platformutils.scheduler.ExecutorAsyncScheduler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the latency of delayed async tasks on Spigot between the wall-clock timed {@link ExecutorAsyncScheduler}
+ * and the previous implementation, which converted the delay to ticks and used the {@code BukkitScheduler}.
+ * The fake server ticks on its own thread with the given tick duration to simulate lag.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AsyncTimingBenchmark {
+    @Param({"50", "100"})
+    public long tickMillis;
+
+    @Param({"10", "75"})
+    public long delayMillis;
+
+    private FakeServer server;
+    private ExecutorAsyncScheduler scheduler;
+
+    @Setup
+    public void setup() {
+        server = new FakeServer();
+        server.startTicking(tickMillis);
+        scheduler = new ExecutorAsyncScheduler(server.getPlugin(), ExecutorAsyncScheduler.createCachedPool(server.getPlugin()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        scheduler.shutdown();
+        server.close();
+    }
+
+    @Benchmark
+    public Object timer() {
+        return scheduler.runDelayed(() -> {}, delayMillis, TimeUnit.MILLISECONDS).getResult().join();
+    }
+
+    @Benchmark
+    public Object ticks() {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        server.getBukkitScheduler().runTaskLaterAsynchronously(server.getPlugin(), () -> future.complete(null), delayMillis / 50);
+        return future.join();
+    }
+}
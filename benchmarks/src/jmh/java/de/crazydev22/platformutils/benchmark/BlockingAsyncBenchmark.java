@@ -0,0 +1,92 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.benchmark;
+
+import de.crazydev22.platformutils.benchmark.fake.FakeServer;
+import de.crazydev22.platformutils.scheduler.AsyncMode;
+import de.crazydev22.platformutils.scheduler.ExecutorAsyncScheduler;
+import de.crazydev22.platformutils.scheduler.task.CompletableTask;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the throughput of the async scheduler for tasks that block, like database or HTTP calls, between
+ * the cached thread pool of the platform and virtual threads. Every invocation submits a batch of tasks
+ * that sleep for the given time and waits for all of them, so one operation is one batch.
+ * <p>
+ * {@link AsyncMode#VIRTUAL_THREADS} requires the benchmarks to run on Java 21.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BlockingAsyncBenchmark {
+    @Param({"PLATFORM", "VIRTUAL_THREADS"})
+    public AsyncMode mode;
+
+    @Param({"100", "1000"})
+    public int batch;
+
+    @Param({"1", "10"})
+    public long blockMillis;
+
+    private FakeServer server;
+    private ExecutorAsyncScheduler scheduler;
+
+    @Setup
+    public void setup() {
+        if (!mode.isSupported())
+            throw new IllegalStateException(mode + " is not supported by this runtime");
+        server = new FakeServer();
+        var plugin = server.getPlugin();
+        scheduler = new ExecutorAsyncScheduler(plugin, mode == AsyncMode.VIRTUAL_THREADS
+                ? ExecutorAsyncScheduler.createVirtualThreadPool(plugin)
+                : ExecutorAsyncScheduler.createCachedPool(plugin));
+    }
+
+    @TearDown
+    public void tearDown() {
+        scheduler.shutdown();
+        server.close();
+    }
+
+    @Benchmark
+    public Object run() {
+        var futures = new CompletableFuture<?>[batch];
+        for (int i = 0; i < batch; i++) {
+            futures[i] = scheduler.run(this::block).getResult();
+        }
+        return CompletableFuture.allOf(futures).join();
+    }
+
+    private Object block(CompletableTask<Object> task) {
+        try {
+            Thread.sleep(blockMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return task;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.benchmark;
+
+import de.crazydev22.platformutils.ChunkPos;
+import de.crazydev22.platformutils.Platform;
+import de.crazydev22.platformutils.benchmark.fake.FakeServer;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Compares running a task for thousands of chunks or entities with one task per target against the region grouped
+ * bulk dispatch of the {@link Platform}. Each invocation submits the batch and ticks the server until it completed.
+ * The targets are spread over 16 region sections.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BulkDispatchBenchmark {
+    private static final int AREA = 64;
+
+    @Param({"SPIGOT", "FOLIA"})
+    public Implementation implementation;
+
+    @Param({"5000"})
+    public int targets;
+
+    @Param({"true", "false"})
+    public boolean bulk;
+
+    private final LongAdder runs = new LongAdder();
+    private FakeServer server;
+    private Platform platform;
+    private World world;
+    private List<ChunkPos> chunks;
+    private List<Entity> entities;
+
+    @Setup
+    public void setup() {
+        server = new FakeServer();
+        platform = implementation.platform(server);
+        world = server.getWorld();
+        chunks = new ArrayList<>(targets);
+        entities = new ArrayList<>(targets);
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < targets; i++) {
+            chunks.add(new ChunkPos(random.nextInt(AREA), random.nextInt(AREA)));
+            entities.add(server.spawnEntity(random.nextInt(AREA << 4), random.nextInt(AREA << 4)));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public void chunks() {
+        final Consumer<ChunkPos> task = chunk -> runs.increment();
+        final CompletableFuture<Void> future;
+        if (bulk) {
+            future = platform.runForEach(world, chunks, task);
+        } else {
+            final CompletableFuture<?>[] futures = new CompletableFuture[chunks.size()];
+            for (int i = 0; i < futures.length; i++) {
+                final ChunkPos chunk = chunks.get(i);
+                futures[i] = platform.getRegionScheduler().run(world, chunk.x(), chunk.z(), () -> task.accept(chunk)).getResult();
+            }
+            future = CompletableFuture.allOf(futures);
+        }
+        await(future);
+    }
+
+    @Benchmark
+    public void entities() {
+        final Consumer<Entity> task = entity -> runs.increment();
+        final CompletableFuture<Void> future;
+        if (bulk) {
+            future = platform.runForEachEntity(entities, task);
+        } else {
+            final CompletableFuture<?>[] futures = new CompletableFuture[entities.size()];
+            for (int i = 0; i < futures.length; i++) {
+                final Entity entity = entities.get(i);
+                futures[i] = platform.getEntityScheduler(entity).run(() -> task.accept(entity), null).getResult();
+            }
+            future = CompletableFuture.allOf(futures);
+        }
+        await(future);
+    }
+
+    private void await(CompletableFuture<Void> future) {
+        while (!future.isDone()) {
+            server.tick();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.benchmark;
+
+import de.crazydev22.platformutils.Platform;
+import de.crazydev22.platformutils.benchmark.fake.FakeServer;
+import de.crazydev22.platformutils.scheduler.IChunkScan;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a map-reduce counting the chunks of a square area, ticking the server until the scan completed.
+ * The chunk loads of the fake server complete on its async pool, the {@code ticks} counter reports how many
+ * ticks the scan was spread over.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ChunkScanBenchmark {
+    @Param({"SPIGOT", "FOLIA"})
+    public Implementation implementation;
+
+    @Param({"128"})
+    public int size;
+
+    @Param({"16", "256"})
+    public int maxLoading;
+
+    private FakeServer server;
+    private Platform platform;
+
+    @Setup
+    public void setup() {
+        server = new FakeServer();
+        platform = implementation.platform(server);
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public long scan(Ticks ticks) {
+        final IChunkScan<Long> scan = platform.scanChunks(server.getWorld(), 0, 0, size - 1, size - 1, chunk -> {
+            Blackhole.consumeCPU(50);
+            return 1L;
+        }, 0L, Long::sum, maxLoading, 10);
+        while (!scan.getResult().isDone()) {
+            server.tick();
+            ticks.ticks++;
+        }
+        return scan.getResult().join();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Ticks {
+        public long ticks;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            ticks = 0;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.benchmark;
+
+import de.crazydev22.platformutils.Platform;
+import de.crazydev22.platformutils.benchmark.fake.FakeServer;
+import de.crazydev22.platformutils.scheduler.IEntityTicker;
+import org.bukkit.entity.Entity;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compares a tick with a repeating task per entity, each on the entity scheduler of the platform, with the same tasks
+ * run from the shared region tasks of an {@link IEntityTicker}. The entities are spread over 16 region sections.
+ * The {@code churn} benchmark additionally removes one entity per tick and spawns a replacement, which exercises
+ * the retirement of entity tasks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EntityTickerBenchmark {
+    private static final int AREA = 1024;
+
+    @Param({"SPIGOT", "FOLIA"})
+    public Implementation implementation;
+
+    @Param({"10000"})
+    public int entities;
+
+    @Param({"true", "false"})
+    public boolean bucketed;
+
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder retired = new LongAdder();
+    private FakeServer server;
+    private Platform platform;
+    private IEntityTicker ticker;
+    private Entity[] spawned;
+    private int next;
+
+    @Setup
+    public void setup() {
+        server = new FakeServer();
+        platform = implementation.platform(server);
+        ticker = platform.createEntityTicker();
+        spawned = new Entity[entities];
+        for (int i = 0; i < entities; i++) {
+            spawned[i] = spawn();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        ticker.close();
+        server.close();
+    }
+
+    @Benchmark
+    public void tick() {
+        server.tick();
+    }
+
+    @Benchmark
+    public void churn() {
+        server.removeEntity(spawned[next]);
+        spawned[next] = spawn();
+        next = (next + 1) % entities;
+        server.tick();
+    }
+
+    private Entity spawn() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final Entity entity = server.spawnEntity(random.nextInt(AREA), random.nextInt(AREA));
+        final var scheduler = bucketed ? ticker.getEntityScheduler(entity) : platform.getEntityScheduler(entity);
+        scheduler.runAtFixedRate(runs::increment, retired::increment, 1, 1);
+        return entity;
+    }
+}
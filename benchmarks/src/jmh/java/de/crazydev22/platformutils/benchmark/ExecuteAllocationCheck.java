@@ -0,0 +1,171 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.benchmark;
+
+import de.crazydev22.platformutils.benchmark.fake.FakeServer;
+import de.crazydev22.platformutils.paper.scheduler.PaperAsyncScheduler;
+import de.crazydev22.platformutils.scheduler.ExecutorAsyncScheduler;
+import de.crazydev22.platformutils.scheduler.IEntityScheduler;
+import de.crazydev22.platformutils.scheduler.IGlobalScheduler;
+import de.crazydev22.platformutils.scheduler.IRegionScheduler;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Checks the number of objects the {@code execute} methods of the schedulers allocate per submission, as documented
+ * on the methods. Each path is compared with a direct submission to the platform scheduler it delegates to, the
+ * difference in bytes allocated by the submitting thread is what the library adds on top of the platform.
+ * <p>
+ * Run by the {@code checkExecuteAllocations} task, which fails once a path allocates more than documented.
+ */
+public final class ExecuteAllocationCheck {
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static final Runnable NOOP = () -> {};
+    private static final Consumer<ScheduledTask> NOOP_CONSUMER = t -> {};
+    private static final int ROUNDS = 200;
+    private static final int BATCH = 1_000;
+    /**
+     * The largest object the library allocates per submission, a lambda or a small record with its header.
+     */
+    private static final int OBJECT_BYTES = 32;
+    /**
+     * The noise per submission that is tolerated, such as the occasional growth of a queue.
+     */
+    private static final double SLACK_BYTES = 8;
+
+    private ExecuteAllocationCheck() {}
+
+    public static void main(String[] args) {
+        final List<String> failures = new ArrayList<>();
+        for (Implementation implementation : Implementation.values()) {
+            try (FakeServer server = new FakeServer()) {
+                for (Path path : paths(implementation, server)) {
+                    final double added = measure(server, path.library) - measure(server, path.platform);
+                    final String result = "%s %s: %.1f bytes per submission, %d objects documented"
+                            .formatted(implementation, path.name, added, path.objects);
+                    System.out.println(result);
+                    if (added > path.objects * OBJECT_BYTES + SLACK_BYTES) failures.add(result);
+                }
+            }
+        }
+        if (!failures.isEmpty()) {
+            throw new AssertionError("execute allocates more than documented:\n" + String.join("\n", failures));
+        }
+    }
+
+    private static List<Path> paths(Implementation implementation, FakeServer server) {
+        final Plugin plugin = server.getPlugin();
+        final World world = server.getWorld();
+        final Entity entity = server.spawnEntity();
+        final IGlobalScheduler global = implementation.global(server);
+        final IRegionScheduler region = implementation.region(server);
+        final IEntityScheduler entities = implementation.entities(server).apply(entity);
+
+        if (implementation == Implementation.SPIGOT) {
+            final BukkitScheduler bukkit = server.getBukkitScheduler();
+            final var async = new ExecutorAsyncScheduler(plugin, new DirectExecutor());
+            final var direct = new DirectExecutor();
+            return List.of(
+                    new Path("global", 0, () -> bukkit.runTask(plugin, NOOP), () -> global.execute(NOOP)),
+                    new Path("region", 0, () -> bukkit.runTask(plugin, NOOP), () -> region.execute(world, 0, 0, NOOP)),
+                    new Path("entity", 2, () -> bukkit.runTaskLater(plugin, NOOP, 1), () -> entities.execute(NOOP, null, 1)),
+                    new Path("async", 0, () -> direct.execute(NOOP), () -> async.execute(NOOP))
+            );
+        }
+
+        final var folia = server.getAsyncScheduler(true);
+        final var async = new PaperAsyncScheduler(plugin, folia);
+        return List.of(
+                new Path("global", 0, () -> server.getGlobalRegionScheduler().execute(plugin, NOOP), () -> global.execute(NOOP)),
+                new Path("region", 0, () -> server.getRegionScheduler().execute(plugin, world, 0, 0, NOOP),
+                        () -> region.execute(world, 0, 0, NOOP)),
+                new Path("entity", 0, () -> entity.getScheduler().execute(plugin, NOOP, null, 1),
+                        () -> entities.execute(NOOP, null, 1)),
+                new Path("async", 1, () -> folia.runNow(plugin, NOOP_CONSUMER), () -> async.execute(NOOP))
+        );
+    }
+
+    /**
+     * Returns the smallest number of bytes allocated per submission in a batch, the first rounds warm up the path.
+     */
+    private static double measure(FakeServer server, Runnable submit) {
+        double best = Double.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            final long start = THREADS.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < BATCH; i++) {
+                submit.run();
+            }
+            server.tick();
+            final long allocated = THREADS.getCurrentThreadAllocatedBytes() - start;
+            best = Math.min(best, (double) allocated / BATCH);
+        }
+        return best;
+    }
+
+    private record Path(String name, int objects, Runnable platform, Runnable library) {}
+
+    /**
+     * Runs tasks on the submitting thread, so the async paths allocate nothing on other threads.
+     */
+    private static final class DirectExecutor extends AbstractExecutorService {
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+
+        @Override
+        public void shutdown() {}
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return List.of();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+}
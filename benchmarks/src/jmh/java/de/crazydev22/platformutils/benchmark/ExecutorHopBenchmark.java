@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.benchmark;
+
+import de.crazydev22.platformutils.benchmark.fake.FakeServer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Compares a {@link CompletableFuture} chain hopping through the owner-thread executor of the platform, which runs
+ * stages submitted from the tick thread inline, with the same chain on an executor that always schedules. The
+ * benchmark thread drives the ticks and therefore is the tick thread, the ticks counter shows how many ticks passed
+ * until the whole chain completed.
+ */
+@State(Scope.Benchmark)
+public class ExecutorHopBenchmark {
+    private static final Runnable NOOP = () -> {};
+
+    @Param({"SPIGOT", "FOLIA"})
+    public Implementation implementation;
+
+    @Param({"1", "5"})
+    public int hops;
+
+    @Param({"true", "false"})
+    public boolean inline;
+
+    private FakeServer server;
+    private Executor executor;
+
+    @Setup
+    public void setup() {
+        server = new FakeServer();
+        var platform = implementation.platform(server);
+        var global = platform.getGlobalScheduler();
+        executor = inline ? platform.globalExecutor() : global::execute;
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public void chain(Ticks ticks) {
+        CompletableFuture<Void> future = CompletableFuture.runAsync(NOOP, executor);
+        for (int i = 1; i < hops; i++) {
+            future = future.thenRunAsync(NOOP, executor);
+        }
+        while (!future.isDone()) {
+            server.tick();
+            ticks.ticks++;
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Ticks {
+        public long ticks;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            ticks = 0;
+        }
+    }
+}
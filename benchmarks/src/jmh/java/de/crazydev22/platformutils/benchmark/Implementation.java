@@ -0,0 +1,115 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.benchmark;
+
+import de.crazydev22.platformutils.Platform;
+import de.crazydev22.platformutils.Type;
+import de.crazydev22.platformutils.benchmark.fake.FakeServer;
+import de.crazydev22.platformutils.paper.scheduler.PaperAsyncScheduler;
+import de.crazydev22.platformutils.paper.scheduler.PaperEntityScheduler;
+import de.crazydev22.platformutils.paper.scheduler.PaperGlobalScheduler;
+import de.crazydev22.platformutils.paper.scheduler.PaperRegionScheduler;
+import de.crazydev22.platformutils.scheduler.ExecutorAsyncScheduler;
+import de.crazydev22.platformutils.scheduler.IAsyncScheduler;
+import de.crazydev22.platformutils.scheduler.IEntityScheduler;
+import de.crazydev22.platformutils.scheduler.IGlobalScheduler;
+import de.crazydev22.platformutils.scheduler.IRegionScheduler;
+import de.crazydev22.platformutils.spigot.scheduler.SpigotEntityRegistry;
+import de.crazydev22.platformutils.spigot.scheduler.SpigotGlobalScheduler;
+import de.crazydev22.platformutils.spigot.scheduler.SpigotRegionScheduler;
+import org.bukkit.entity.Entity;
+
+import java.util.function.Function;
+
+/**
+ * The platform implementations under test, wired to the schedulers of a {@link FakeServer}.
+ */
+public enum Implementation {
+    SPIGOT(Type.SPIGOT) {
+        @Override
+        public IGlobalScheduler global(FakeServer server) {
+            return new SpigotGlobalScheduler(server.getPlugin(), server.getBukkitScheduler());
+        }
+
+        @Override
+        public IRegionScheduler region(FakeServer server) {
+            return new SpigotRegionScheduler(global(server));
+        }
+
+        @Override
+        public IAsyncScheduler async(FakeServer server) {
+            return new ExecutorAsyncScheduler(server.getPlugin(), ExecutorAsyncScheduler.createCachedPool(server.getPlugin()));
+        }
+
+        @Override
+        public Function<Entity, IEntityScheduler> entities(FakeServer server) {
+            return new SpigotEntityRegistry(server.getPlugin(), server.getBukkitScheduler())::get;
+        }
+    },
+    FOLIA(Type.FOLIA) {
+        @Override
+        public IGlobalScheduler global(FakeServer server) {
+            return new PaperGlobalScheduler(server.getPlugin(), server.getGlobalRegionScheduler());
+        }
+
+        @Override
+        public IRegionScheduler region(FakeServer server) {
+            return new PaperRegionScheduler(server.getPlugin(), server.getRegionScheduler());
+        }
+
+        @Override
+        public IAsyncScheduler async(FakeServer server) {
+            return new PaperAsyncScheduler(server.getPlugin(), server.getAsyncScheduler(false));
+        }
+
+        @Override
+        public Function<Entity, IEntityScheduler> entities(FakeServer server) {
+            return entity -> new PaperEntityScheduler(server.getPlugin(), entity.getScheduler());
+        }
+    };
+
+    private final Type type;
+
+    Implementation(Type type) {
+        this.type = type;
+    }
+
+    public Platform platform(FakeServer server) {
+        return server.createPlatform(type, global(server), region(server), async(server), entities(server));
+    }
+
+    public abstract IGlobalScheduler global(FakeServer server);
+
+    public abstract IRegionScheduler region(FakeServer server);
+
+    public abstract IAsyncScheduler async(FakeServer server);
+
+    /**
+     * Returns the entity schedulers, the Spigot ones are looked up in a registry that is shared by all entities.
+     *
+     * @param server the server
+     * @return a function returning the entity scheduler of an entity
+     */
+    public abstract Function<Entity, IEntityScheduler> entities(FakeServer server);
+}
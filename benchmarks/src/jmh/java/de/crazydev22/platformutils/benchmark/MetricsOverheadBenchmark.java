@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.benchmark;
+
+import de.crazydev22.platformutils.benchmark.fake.FakeServer;
+import de.crazydev22.platformutils.scheduler.IGlobalScheduler;
+import de.crazydev22.platformutils.scheduler.metrics.SchedulerMetrics;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the cost scheduler metrics add to a task. Each invocation schedules a batch of tasks for the next tick
+ * and runs that tick, the score is per task, so the difference between the plain and the metered scheduler is the
+ * overhead of recording submission, scheduling delay and execution time.
+ */
+@State(Scope.Benchmark)
+public class MetricsOverheadBenchmark {
+    private static final int TASKS = 1000;
+    private static final Runnable NOOP = () -> {};
+
+    @Param({"SPIGOT", "FOLIA"})
+    public Implementation implementation;
+
+    @Param({"false", "true"})
+    public boolean metered;
+
+    private FakeServer server;
+    private IGlobalScheduler global;
+
+    @Setup
+    public void setup() {
+        server = new FakeServer();
+        global = implementation.global(server);
+        if (metered) global = new SchedulerMetrics(server.getPlugin()).global(global);
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASKS)
+    public void execute() {
+        for (int i = 0; i < TASKS; i++) {
+            global.execute(NOOP);
+        }
+        server.tick();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASKS)
+    public void runDelayed() {
+        for (int i = 0; i < TASKS; i++) {
+            global.runDelayed(NOOP, 1);
+        }
+        server.tick();
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.benchmark;
+
+import de.crazydev22.platformutils.benchmark.fake.FakeServer;
+import de.crazydev22.platformutils.scheduler.IGlobalScheduler;
+import de.crazydev22.platformutils.scheduler.ITaskMultiplexer;
+import de.crazydev22.platformutils.scheduler.task.Task;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compares a tick with many repeating tasks of the same period, each on its own platform task, with the same tasks
+ * multiplexed onto a single platform task. The {@code churn} benchmark additionally cancels and reschedules one task
+ * per tick, which exercises the tombstones and the compaction of the multiplexer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MultiplexBenchmark {
+    @Param({"SPIGOT", "FOLIA"})
+    public Implementation implementation;
+
+    @Param({"10000"})
+    public int tasks;
+
+    @Param({"true", "false"})
+    public boolean multiplexed;
+
+    private final LongAdder runs = new LongAdder();
+    private FakeServer server;
+    private ITaskMultiplexer multiplexer;
+    private IGlobalScheduler scheduler;
+    private Task[] handles;
+    private int next;
+
+    @Setup
+    public void setup() {
+        server = new FakeServer();
+        var platform = implementation.platform(server);
+        multiplexer = platform.createTaskMultiplexer();
+        scheduler = multiplexed ? multiplexer.getGlobalScheduler() : platform.getGlobalScheduler();
+        handles = new Task[tasks];
+        for (int i = 0; i < tasks; i++) {
+            handles[i] = scheduler.runAtFixedRate(runs::increment, 1, 1);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        multiplexer.close();
+        server.close();
+    }
+
+    @Benchmark
+    public void tick() {
+        server.tick();
+    }
+
+    @Benchmark
+    public void churn() {
+        handles[next].cancel();
+        handles[next] = scheduler.runAtFixedRate(runs::increment, 1, 1);
+        next = (next + 1) % tasks;
+        server.tick();
+    }
+}
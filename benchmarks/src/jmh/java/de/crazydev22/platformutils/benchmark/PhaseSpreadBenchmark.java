@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.benchmark;
+
+import de.crazydev22.platformutils.benchmark.fake.FakeServer;
+import de.crazydev22.platformutils.scheduler.IGlobalScheduler;
+import de.crazydev22.platformutils.scheduler.IPhaseSpreader;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples the duration of single ticks while many repeating tasks with the same period are registered at once,
+ * like one task per arena. Without spreading every task runs in the same tick of the period, which shows up as
+ * a high tail in the percentiles, with spreading each tick runs about the same share of the tasks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PhaseSpreadBenchmark {
+    @Param({"SPIGOT", "FOLIA"})
+    public Implementation implementation;
+
+    @Param({"500"})
+    public int tasks;
+
+    @Param({"20"})
+    public long period;
+
+    @Param({"true", "false"})
+    public boolean spread;
+
+    private FakeServer server;
+    private IPhaseSpreader spreader;
+
+    @Setup
+    public void setup() {
+        server = new FakeServer();
+        var platform = implementation.platform(server);
+        spreader = platform.createPhaseSpreader();
+        IGlobalScheduler scheduler = spread ? spreader.getGlobalScheduler() : platform.getGlobalScheduler();
+        for (int i = 0; i < tasks; i++) {
+            scheduler.runAtFixedRate(() -> Blackhole.consumeCPU(100), 1, period);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        spreader.close();
+        server.close();
+    }
+
+    @Benchmark
+    public void tick() {
+        server.tick();
+    }
+}
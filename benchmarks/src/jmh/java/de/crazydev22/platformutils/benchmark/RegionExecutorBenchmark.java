@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.benchmark;
+
+import de.crazydev22.platformutils.benchmark.fake.FakeServer;
+import de.crazydev22.platformutils.paper.scheduler.PaperRegionExecutor;
+import org.bukkit.World;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-tick overhead of the Folia region executor after a job touched a large number of chunks.
+ * The {@code idle} benchmark ticks the server once the job completed and the queues had time to go idle, the
+ * {@code burst} benchmark queues a task for a random chunk of the touched area before every tick.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RegionExecutorBenchmark {
+    private static final Runnable NOOP = () -> {};
+
+    @Param({"100000"})
+    public int chunks;
+
+    private FakeServer server;
+    private PaperRegionExecutor executor;
+    private World world;
+    private int size;
+
+    @Setup
+    public void setup() {
+        server = new FakeServer();
+        executor = new PaperRegionExecutor(Implementation.FOLIA.platform(server), 50);
+        world = server.getWorld();
+        size = (int) Math.ceil(Math.sqrt(chunks));
+
+        final CompletableFuture<?>[] futures = new CompletableFuture[chunks];
+        for (int i = 0; i < chunks; i++) {
+            futures[i] = executor.queue(world, i % size, i / size, NOOP);
+        }
+        final CompletableFuture<Void> job = CompletableFuture.allOf(futures);
+        while (!job.isDone()) {
+            server.tick();
+        }
+        for (int i = 0; i <= PaperRegionExecutor.IDLE_TICKS; i++) {
+            server.tick();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public void idle() {
+        server.tick();
+    }
+
+    @Benchmark
+    public void burst() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        executor.queue(world, random.nextInt(size), random.nextInt(size), NOOP);
+        server.tick();
+    }
+}
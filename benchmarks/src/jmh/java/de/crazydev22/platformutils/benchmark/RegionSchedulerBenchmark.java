@@ -0,0 +1,70 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.benchmark;
+
+import de.crazydev22.platformutils.benchmark.fake.FakeServer;
+import de.crazydev22.platformutils.scheduler.IRegionScheduler;
+import de.crazydev22.platformutils.scheduler.task.Task;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Schedules a repeating region task, lets it fire once and cancels it again, and submits a fire-and-forget task and
+ * runs the tick that executes it.
+ */
+@State(Scope.Benchmark)
+public class RegionSchedulerBenchmark {
+    private static final Runnable NOOP = () -> {};
+
+    @Param({"SPIGOT", "FOLIA"})
+    public Implementation implementation;
+
+    private FakeServer server;
+    private IRegionScheduler scheduler;
+
+    @Setup
+    public void setup() {
+        server = new FakeServer();
+        scheduler = implementation.region(server);
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public Object runAtFixedRate() {
+        Task task = scheduler.runAtFixedRate(server.getWorld(), 0, 0, t -> {}, 1, 1);
+        server.tick();
+        Object state = task.cancel();
+        server.tick();
+        return state;
+    }
+
+    @Benchmark
+    public void execute() {
+        scheduler.execute(server.getWorld(), 0, 0, NOOP);
+        server.tick();
+    }
+}
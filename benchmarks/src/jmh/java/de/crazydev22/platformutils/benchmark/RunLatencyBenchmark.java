@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.benchmark;
+
+import de.crazydev22.platformutils.benchmark.fake.FakeServer;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.function.Consumer;
+
+/**
+ * Measures the latency in ticks from submitting a task on the tick thread until it runs, comparing the immediate
+ * {@code run} path of the schedulers with {@code runDelayed(task, 1)}. The task is submitted from within a running
+ * tick, the latency counter divided by the submissions counter is the average latency in ticks. The expected
+ * latencies are asserted by {@link RunLatencyCheck}.
+ */
+@State(Scope.Benchmark)
+public class RunLatencyBenchmark {
+    @Param({"SPIGOT", "FOLIA"})
+    public Implementation implementation;
+
+    @Param({"true", "false"})
+    public boolean region;
+
+    @Param({"true", "false"})
+    public boolean immediate;
+
+    private FakeServer server;
+    private Plugin plugin;
+    private BukkitScheduler bukkit;
+    private Consumer<Runnable> submit;
+
+    @Setup
+    public void setup() {
+        server = new FakeServer();
+        plugin = server.getPlugin();
+        bukkit = server.getBukkitScheduler();
+        if (region) {
+            var scheduler = implementation.region(server);
+            var world = server.getWorld();
+            submit = immediate ? task -> scheduler.run(world, 0, 0, task) : task -> scheduler.runDelayed(world, 0, 0, task, 1);
+        } else {
+            var scheduler = implementation.global(server);
+            submit = immediate ? task -> scheduler.run(task) : task -> scheduler.runDelayed(task, 1);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public void submit(Latency latency) {
+        final long[] ticks = new long[2];
+        bukkit.runTask(plugin, () -> {
+            ticks[0] = server.getCurrentTick();
+            submit.accept(() -> ticks[1] = server.getCurrentTick());
+        });
+        while (ticks[1] == 0) {
+            server.tick();
+        }
+        latency.submissions++;
+        latency.ticks += ticks[1] - ticks[0];
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Latency {
+        public long submissions;
+        public long ticks;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            submissions = 0;
+            ticks = 0;
+        }
+    }
+}
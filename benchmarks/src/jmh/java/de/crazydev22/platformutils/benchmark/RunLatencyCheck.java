@@ -0,0 +1,81 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.benchmark;
+
+import de.crazydev22.platformutils.benchmark.fake.FakeServer;
+import org.bukkit.World;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Checks the latency in ticks from submitting a task on a ticking thread until it runs. {@code run} on a Folia region
+ * has to run the task in the same tick, every other {@code run} and {@code runDelayed(task, 1)} on the next one.
+ * <p>
+ * Run by the {@code checkRunLatency} task, which fails once a path takes a different number of ticks.
+ */
+public final class RunLatencyCheck {
+    private static final int TICK_LIMIT = 10;
+
+    private RunLatencyCheck() {}
+
+    public static void main(String[] args) {
+        final List<String> failures = new ArrayList<>();
+        for (Implementation implementation : Implementation.values()) {
+            try (FakeServer server = new FakeServer()) {
+                final var global = implementation.global(server);
+                final var region = implementation.region(server);
+                final World world = server.getWorld();
+                final long regionRun = implementation == Implementation.FOLIA ? 0 : 1;
+
+                check(failures, server, implementation + " global run", 1, task -> global.run(task));
+                check(failures, server, implementation + " global runDelayed", 1, task -> global.runDelayed(task, 1));
+                check(failures, server, implementation + " region run", regionRun, task -> region.run(world, 0, 0, task));
+                check(failures, server, implementation + " region runDelayed", 1,
+                        task -> region.runDelayed(world, 0, 0, task, 1));
+            }
+        }
+        if (!failures.isEmpty()) {
+            throw new AssertionError("run latency differs from the expected one:\n" + String.join("\n", failures));
+        }
+    }
+
+    private static void check(List<String> failures, FakeServer server, String name, long expected, Consumer<Runnable> submit) {
+        final long[] ticks = {-1, -1};
+        server.getBukkitScheduler().runTask(server.getPlugin(), () -> {
+            ticks[0] = server.getCurrentTick();
+            submit.accept(() -> ticks[1] = server.getCurrentTick());
+        });
+        for (int i = 0; i < TICK_LIMIT && ticks[1] < 0; i++) {
+            server.tick();
+        }
+
+        final String result = ticks[1] < 0
+                ? "%s: did not run within %d ticks, expected %d".formatted(name, TICK_LIMIT, expected)
+                : "%s: %d ticks, expected %d".formatted(name, ticks[1] - ticks[0], expected);
+        System.out.println(result);
+        if (ticks[1] < 0 || ticks[1] - ticks[0] != expected) failures.add(result);
+    }
+}
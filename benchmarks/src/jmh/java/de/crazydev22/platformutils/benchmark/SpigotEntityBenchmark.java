@@ -0,0 +1,97 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.benchmark;
+
+import de.crazydev22.platformutils.benchmark.fake.FakeServer;
+import de.crazydev22.platformutils.scheduler.IEntityScheduler;
+import de.crazydev22.platformutils.spigot.scheduler.SpigotEntityRegistry;
+import org.bukkit.entity.Entity;
+import org.bukkit.event.world.EntitiesUnloadEvent;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Drives the Spigot entity registry with one repeating task per entity. {@code tick} is the cost of running all
+ * entity tasks once, {@code lookup} the cost of resolving the scheduler of an entity and {@code churn} unloads one
+ * entity through the unload event, which retires its tasks, and spawns a replacement with a new task.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SpigotEntityBenchmark {
+    @Param({"20000"})
+    public int entities;
+
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder retired = new LongAdder();
+    private FakeServer server;
+    private SpigotEntityRegistry registry;
+    private Entity[] spawned;
+    private int next;
+
+    @Setup
+    public void setup() {
+        server = new FakeServer();
+        registry = new SpigotEntityRegistry(server.getPlugin(), server.getBukkitScheduler());
+        spawned = new Entity[entities];
+        for (int i = 0; i < entities; i++) {
+            spawned[i] = spawn();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public void tick() {
+        server.tick();
+    }
+
+    @Benchmark
+    public IEntityScheduler lookup() {
+        next = (next + 1) % entities;
+        return registry.get(spawned[next]);
+    }
+
+    @Benchmark
+    public void churn() {
+        next = (next + 1) % entities;
+        final Entity entity = spawned[next];
+        server.removeEntity(entity);
+        registry.onEntitiesUnload(new EntitiesUnloadEvent(server.getChunk(), List.of(entity)));
+        spawned[next] = spawn();
+        server.tick();
+    }
+
+    private Entity spawn() {
+        final Entity entity = server.spawnEntity();
+        registry.get(entity).runAtFixedRate(t -> runs.increment(), retired::increment, 1, 1);
+        return entity;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.benchmark;
+
+import de.crazydev22.platformutils.benchmark.fake.FakeServer;
+import de.crazydev22.platformutils.paper.scheduler.PaperAsyncScheduler;
+import de.crazydev22.platformutils.scheduler.IAsyncScheduler;
+import de.crazydev22.platformutils.scheduler.task.CompletableTask;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Contention benchmark for the handoff between the scheduling thread and the task wrapper.
+ * <p>
+ * With {@code inline} the stand-in scheduler runs every task on the submitting thread before it returns the
+ * platform task, so the task always starts before the wrapper is bound. Any waiting for the binding would
+ * show up as a difference between the two modes, a wrapper that spins would never finish.
+ */
+@State(Scope.Benchmark)
+@Threads(4)
+public class TaskHandoffBenchmark {
+    @Param({"true", "false"})
+    public boolean inline;
+
+    private FakeServer server;
+    private IAsyncScheduler scheduler;
+
+    @Setup
+    public void setup() {
+        server = new FakeServer();
+        scheduler = new PaperAsyncScheduler(server.getPlugin(), server.getAsyncScheduler(inline));
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public Object handoff() {
+        CompletableTask<Object> task = scheduler.run(t -> t);
+        return task.getResult().join();
+    }
+}
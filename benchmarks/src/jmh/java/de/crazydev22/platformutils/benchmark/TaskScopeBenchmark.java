@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.benchmark;
+
+import de.crazydev22.platformutils.benchmark.fake.FakeServer;
+import de.crazydev22.platformutils.scheduler.IGlobalScheduler;
+import de.crazydev22.platformutils.scheduler.ITaskScope;
+import de.crazydev22.platformutils.scheduler.TaskScopes;
+import de.crazydev22.platformutils.scheduler.task.Task;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+
+/**
+ * Compares cancelling a group of tasks through a task scope with keeping the tasks in a list and cancelling them
+ * one by one. Each invocation schedules the group, cancels it and runs the tick the tasks were due in, so the cost
+ * of skipping invalidated tasks is included.
+ */
+@State(Scope.Benchmark)
+public class TaskScopeBenchmark {
+    private static final Runnable NOOP = () -> {};
+
+    @Param({"SPIGOT", "FOLIA"})
+    public Implementation implementation;
+
+    @Param({"100", "10000"})
+    public int tasks;
+
+    private FakeServer server;
+    private IGlobalScheduler global;
+    private ITaskScope scope;
+
+    @Setup
+    public void setup() {
+        server = new FakeServer();
+        var platform = implementation.platform(server);
+        global = platform.getGlobalScheduler();
+        scope = new TaskScopes(platform).create(Duration.ZERO);
+    }
+
+    @TearDown
+    public void tearDown() {
+        scope.close();
+        server.close();
+    }
+
+    @Benchmark
+    public void scope() {
+        var scheduler = scope.getGlobalScheduler();
+        for (int i = 0; i < tasks; i++) {
+            scheduler.runDelayed(NOOP, 1);
+        }
+        scope.cancel();
+        server.tick();
+    }
+
+    @Benchmark
+    public void individually() {
+        var list = new Task[tasks];
+        for (int i = 0; i < tasks; i++) {
+            list[i] = global.runDelayed(NOOP, 1);
+        }
+        for (Task task : list) {
+            task.cancel();
+        }
+        server.tick();
+    }
+}
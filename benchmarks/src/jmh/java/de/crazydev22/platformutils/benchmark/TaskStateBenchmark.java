@@ -0,0 +1,92 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.benchmark;
+
+import de.crazydev22.platformutils.benchmark.fake.FakeServer;
+import de.crazydev22.platformutils.paper.PaperTask;
+import de.crazydev22.platformutils.scheduler.task.ManagedTask;
+import de.crazydev22.platformutils.scheduler.task.Task;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.plugin.Plugin;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.function.Consumer;
+
+/**
+ * Measures the task wrappers on their own: the {@link ManagedTask} cancellation state machine and the state
+ * translation of {@link PaperTask}.
+ */
+@State(Scope.Thread)
+public class TaskStateBenchmark {
+    private static final Consumer<Task> NOOP = t -> {};
+
+    private FakeServer server;
+    private Plugin plugin;
+    private PaperTask paperTask;
+
+    @Setup
+    public void setup() {
+        server = new FakeServer();
+        plugin = server.getPlugin();
+        ScheduledTask scheduled = server.getGlobalRegionScheduler().runAtFixedRate(plugin, t -> {}, 1, 1);
+        paperTask = new PaperTask(plugin, true, false);
+        paperTask.bind(scheduled);
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public Object managedCancelIdle() {
+        return new ManagedTask(plugin, false, false).cancel();
+    }
+
+    @Benchmark
+    public Object managedRunThenCancel() {
+        ManagedTask task = new ManagedTask(plugin, false, false);
+        task.run(NOOP);
+        return task.cancel();
+    }
+
+    @Benchmark
+    public Object managedRepeatingCancelWhileRunning() {
+        ManagedTask task = new ManagedTask(plugin, true, false);
+        task.run(Task::cancel);
+        return task.getExecutionState();
+    }
+
+    @Benchmark
+    public Object paperExecutionState() {
+        return paperTask.getExecutionState();
+    }
+
+    @Benchmark
+    public Object paperCancel() {
+        PaperTask task = new PaperTask(plugin, false, false);
+        task.bind(server.getGlobalRegionScheduler().runDelayed(plugin, t -> {}, 1));
+        return task.cancel();
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.benchmark;
+
+import de.crazydev22.platformutils.benchmark.fake.FakeServer;
+import de.crazydev22.platformutils.scheduler.ExecutorAsyncScheduler;
+import de.crazydev22.platformutils.scheduler.IAsyncScheduler;
+import de.crazydev22.platformutils.scheduler.IGlobalScheduler;
+import de.crazydev22.platformutils.scheduler.TimerService;
+import de.crazydev22.platformutils.scheduler.task.Task;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares scheduling and cancelling delayed tasks while a large number of timers is pending, between the
+ * timing wheels of the {@link TimerService} and the priority queues of the platform schedulers.
+ * <p>
+ * The global benchmark schedules two timers at the end of the horizon and cancels one of them per tick, so the
+ * number of live timers stays constant while the priority queues also carry the cancelled ones until they are due.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TimerWheelBenchmark {
+    private static final Runnable NOOP = () -> {};
+
+    @Param({"WHEEL", "SPIGOT", "FOLIA"})
+    public String scheduler;
+
+    @Param({"1000000"})
+    public int pending;
+
+    private FakeServer server;
+    private TimerService timers;
+    private IGlobalScheduler global;
+    private IAsyncScheduler async;
+
+    @Setup
+    public void setup() {
+        server = new FakeServer();
+        if (scheduler.equals("WHEEL")) {
+            timers = new TimerService(Implementation.FOLIA.platform(server));
+            global = timers.getGlobalScheduler();
+            async = timers.getAsyncScheduler();
+        } else {
+            var implementation = Implementation.valueOf(scheduler);
+            global = implementation.global(server);
+            async = implementation.async(server);
+        }
+
+        var random = new SplittableRandom(0);
+        for (int i = 0; i < pending; i++) {
+            global.runDelayed(NOOP, 1 + random.nextInt(pending));
+            async.runDelayed(NOOP, 1 + random.nextInt(pending), TimeUnit.MILLISECONDS);
+        }
+        server.tick();
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (timers != null) timers.close();
+        if (async instanceof ExecutorAsyncScheduler executor) executor.shutdown();
+        server.close();
+    }
+
+    @Benchmark
+    public Object globalScheduleCancelTick() {
+        global.runDelayed(NOOP, pending);
+        Task task = global.runDelayed(NOOP, pending);
+        task.cancel();
+        server.tick();
+        return task;
+    }
+
+    @Benchmark
+    public Object asyncScheduleCancel() {
+        Task task = async.runDelayed(NOOP, pending, TimeUnit.MILLISECONDS);
+        task.cancel();
+        return task;
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.benchmark.fake;
+
+import org.bukkit.scheduler.BukkitScheduler;
+
+/**
+ * Stand-in for the {@link BukkitScheduler}. Only the {@code runTask*} family used by the platform
+ * implementation is supported, everything else throws.
+ */
+final class FakeBukkitScheduler {
+    private FakeBukkitScheduler() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    static BukkitScheduler create(FakeServer server) {
+        return Stubs.create(BukkitScheduler.class, (proxy, method, args) -> {
+            final String name = method.getName();
+            final boolean async = name.endsWith("Asynchronously");
+            final FakeBukkitTask task = switch (async ? name.substring(0, name.length() - 14) : name) {
+                case "runTask" -> new FakeBukkitTask(server.getPlugin(), args[1], 0, -1, async);
+                case "runTaskLater" -> new FakeBukkitTask(server.getPlugin(), args[1], (long) args[2], -1, async);
+                case "runTaskTimer" -> new FakeBukkitTask(server.getPlugin(), args[1], (long) args[2], Math.max(1, (long) args[3]), async);
+                default -> throw new UnsupportedOperationException(name);
+            };
+            server.schedule(task);
+            return method.getReturnType() == void.class ? null : task;
+        });
+    }
+}
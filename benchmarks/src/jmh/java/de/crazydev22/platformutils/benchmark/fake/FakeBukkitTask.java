@@ -0,0 +1,80 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.benchmark.fake;
+
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+
+final class FakeBukkitTask extends FakeTask implements BukkitTask {
+    private final Object action;
+    private volatile boolean cancelled;
+
+    FakeBukkitTask(Plugin plugin, Object action, long delay, long period, boolean async) {
+        super(plugin, delay, period, async);
+        this.action = action;
+    }
+
+    @Override
+    public int getTaskId() {
+        return id;
+    }
+
+    @Override
+    public @NotNull Plugin getOwner() {
+        return plugin;
+    }
+
+    @Override
+    public boolean isSync() {
+        return !async;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public void cancel() {
+        cancelled = true;
+        cancelFuture();
+    }
+
+    @Override
+    boolean isDone() {
+        return cancelled;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    void execute() {
+        if (cancelled) return;
+        if (action instanceof Runnable runnable) runnable.run();
+        else ((Consumer<BukkitTask>) action).accept(this);
+        if (!isRepeating()) cancelled = true;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.benchmark.fake;
+
+import io.papermc.paper.threadedregions.scheduler.EntityScheduler;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Consumer;
+
+/**
+ * Stand-in for the Folia {@link EntityScheduler}. Every task is its own scheduled task, a task that is due after its
+ * entity was removed is cancelled and its retired callback invoked instead.
+ */
+final class FakeEntityScheduler implements EntityScheduler {
+    private final FakeServer server;
+    private final Entity entity;
+
+    FakeEntityScheduler(FakeServer server, Entity entity) {
+        this.server = server;
+        this.entity = entity;
+    }
+
+    @Override
+    public boolean execute(@NotNull Plugin plugin, @NotNull Runnable run, @Nullable Runnable retired, long delay) {
+        return runDelayed(plugin, task -> run.run(), retired, delay) != null;
+    }
+
+    @Override
+    public @Nullable ScheduledTask run(@NotNull Plugin plugin, @NotNull Consumer<ScheduledTask> task, @Nullable Runnable retired) {
+        return runDelayed(plugin, task, retired, 1);
+    }
+
+    @Override
+    public @Nullable ScheduledTask runDelayed(@NotNull Plugin plugin, @NotNull Consumer<ScheduledTask> task, @Nullable Runnable retired, long delayTicks) {
+        if (!entity.isValid()) return null;
+        return server.schedule(new FakeScheduledTask(plugin, guard(task, retired), delayTicks, -1, false));
+    }
+
+    @Override
+    public @Nullable ScheduledTask runAtFixedRate(@NotNull Plugin plugin, @NotNull Consumer<ScheduledTask> task, @Nullable Runnable retired, long initialDelayTicks, long periodTicks) {
+        if (!entity.isValid()) return null;
+        return server.schedule(new FakeScheduledTask(plugin, guard(task, retired), initialDelayTicks, periodTicks, false));
+    }
+
+    private Consumer<ScheduledTask> guard(Consumer<ScheduledTask> task, @Nullable Runnable retired) {
+        return t -> {
+            if (entity.isValid()) {
+                task.accept(t);
+                return;
+            }
+            t.cancel();
+            if (retired != null) retired.run();
+        };
+    }
+}
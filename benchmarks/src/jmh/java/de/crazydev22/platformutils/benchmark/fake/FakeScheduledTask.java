@@ -0,0 +1,106 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.benchmark.fake;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Stand-in for the Folia {@link ScheduledTask} implementing the same cancellation state machine.
+ */
+final class FakeScheduledTask extends FakeTask implements ScheduledTask {
+    private final AtomicReference<ExecutionState> state = new AtomicReference<>(ExecutionState.IDLE);
+    private final Consumer<ScheduledTask> action;
+
+    FakeScheduledTask(Plugin plugin, Consumer<ScheduledTask> action, long delay, long period, boolean async) {
+        super(plugin, delay, period, async);
+        this.action = action;
+    }
+
+    @Override
+    public @NotNull Plugin getOwningPlugin() {
+        return plugin;
+    }
+
+    @Override
+    public boolean isRepeatingTask() {
+        return isRepeating();
+    }
+
+    @Override
+    public @NotNull CancelledState cancel() {
+        for (;;) {
+            ExecutionState curr = state.get();
+            switch (curr) {
+                case IDLE -> {
+                    if (!state.compareAndSet(curr, ExecutionState.CANCELLED)) continue;
+                    cancelFuture();
+                    return CancelledState.CANCELLED_BY_CALLER;
+                }
+                case RUNNING -> {
+                    if (!isRepeating()) return CancelledState.RUNNING;
+                    if (!state.compareAndSet(curr, ExecutionState.CANCELLED_RUNNING)) continue;
+                    cancelFuture();
+                    return CancelledState.NEXT_RUNS_CANCELLED;
+                }
+                case CANCELLED_RUNNING -> {
+                    return CancelledState.NEXT_RUNS_CANCELLED_ALREADY;
+                }
+                case FINISHED -> {
+                    return CancelledState.ALREADY_EXECUTED;
+                }
+                case CANCELLED -> {
+                    return CancelledState.CANCELLED_ALREADY;
+                }
+            }
+        }
+    }
+
+    @Override
+    public @NotNull ExecutionState getExecutionState() {
+        return state.get();
+    }
+
+    @Override
+    boolean isDone() {
+        ExecutionState curr = state.get();
+        return curr == ExecutionState.CANCELLED || curr == ExecutionState.FINISHED;
+    }
+
+    @Override
+    void execute() {
+        if (!state.compareAndSet(ExecutionState.IDLE, ExecutionState.RUNNING)) return;
+        try {
+            action.accept(this);
+        } finally {
+            if (!isRepeating()) state.set(ExecutionState.FINISHED);
+            else if (!state.compareAndSet(ExecutionState.RUNNING, ExecutionState.IDLE))
+                state.set(ExecutionState.CANCELLED);
+        }
+    }
+}
@@ -0,0 +1,311 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.benchmark.fake;
+
+import de.crazydev22.platformutils.Platform;
+import de.crazydev22.platformutils.Type;
+import de.crazydev22.platformutils.scheduler.IAsyncScheduler;
+import de.crazydev22.platformutils.scheduler.IEntityScheduler;
+import de.crazydev22.platformutils.scheduler.IGlobalScheduler;
+import de.crazydev22.platformutils.scheduler.IRegionScheduler;
+import io.papermc.paper.threadedregions.scheduler.AsyncScheduler;
+import io.papermc.paper.threadedregions.scheduler.EntityScheduler;
+import io.papermc.paper.threadedregions.scheduler.GlobalRegionScheduler;
+import io.papermc.paper.threadedregions.scheduler.RegionScheduler;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+
+import java.lang.reflect.InvocationHandler;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * In-process stand-in for the server tick loop and its schedulers.
+ * <p>
+ * Tick based tasks are collected in a concurrent queue and moved into a priority queue ordered by the tick they
+ * are due, which mirrors what the CraftBukkit and Folia schedulers do. {@link #tick()} runs all due tasks on the
+ * calling thread, which becomes the main thread for the duration of the call. Tasks queued for the current tick
+ * while it is running are picked up before it ends, like the tick task queue of a Folia region. Asynchronous tasks are handed to a
+ * cached thread pool, delayed asynchronous tasks are timed by a scheduled executor just like Folia's async
+ * scheduler.
+ */
+public final class FakeServer implements AutoCloseable {
+    private final Queue<FakeTask> incoming = new ConcurrentLinkedQueue<>();
+    private final PriorityQueue<FakeTask> pending = new PriorityQueue<>();
+    private final ExecutorService async = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "Fake Async Worker");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, r -> {
+        Thread thread = new Thread(r, "Fake Async Timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Logger logger = Logger.getLogger("Benchmark");
+    private final Plugin plugin = Stubs.create(Plugin.class, (proxy, method, args) -> switch (method.getName()) {
+        case "getName" -> "Benchmark";
+        case "getLogger" -> logger;
+        default -> Stubs.defaultValue(method);
+    });
+    private final World world = Stubs.create(World.class);
+    private final Chunk chunk = Stubs.create(Chunk.class);
+    private final Set<Entity> removed = ConcurrentHashMap.newKeySet();
+    private final Map<Entity, Location> locations = new ConcurrentHashMap<>();
+    private final AtomicInteger nextEntityId = new AtomicInteger();
+    private final BukkitScheduler bukkitScheduler = FakeBukkitScheduler.create(this);
+    private final GlobalRegionScheduler globalScheduler = new FakeGlobalRegionScheduler(this);
+    private final RegionScheduler regionScheduler = new FakeRegionScheduler(this);
+    private final AsyncScheduler asyncScheduler = new FakeAsyncScheduler(this, false);
+    private final AsyncScheduler inlineAsyncScheduler = new FakeAsyncScheduler(this, true);
+    private volatile Thread mainThread;
+    private volatile Thread ticker;
+    private volatile long currentTick;
+
+    public FakeServer() {
+        timer.setRemoveOnCancelPolicy(true);
+    }
+
+    public Plugin getPlugin() {
+        return plugin;
+    }
+
+    public World getWorld() {
+        return world;
+    }
+
+    public Chunk getChunk() {
+        return chunk;
+    }
+
+    /**
+     * Creates an entity at the origin of the world of this server. It stays valid until {@link #removeEntity(Entity)} is called.
+     *
+     * @return the entity
+     */
+    public Entity spawnEntity() {
+        return spawnEntity(0, 0);
+    }
+
+    /**
+     * Creates an entity at the given block of the world of this server. It stays valid until
+     * {@link #removeEntity(Entity)} is called, its Folia entity scheduler retires its tasks once they are due after that.
+     *
+     * @param blockX the block x coordinate
+     * @param blockZ the block z coordinate
+     * @return the entity
+     */
+    public Entity spawnEntity(int blockX, int blockZ) {
+        final int id = nextEntityId.incrementAndGet();
+        final EntityScheduler[] scheduler = new EntityScheduler[1];
+        final Entity entity = Stubs.create(Entity.class, (proxy, method, args) -> switch (method.getName()) {
+            case "getEntityId" -> id;
+            case "getWorld" -> world;
+            case "getLocation" -> locations.get(proxy);
+            case "getScheduler" -> scheduler[0];
+            case "isValid" -> !removed.contains(proxy);
+            case "isDead" -> removed.contains(proxy);
+            default -> Stubs.defaultValue(method);
+        });
+        scheduler[0] = new FakeEntityScheduler(this, entity);
+        moveEntity(entity, blockX, blockZ);
+        return entity;
+    }
+
+    public void moveEntity(Entity entity, int blockX, int blockZ) {
+        locations.put(entity, new Location(world, blockX, 64, blockZ));
+    }
+
+    public void removeEntity(Entity entity) {
+        removed.add(entity);
+    }
+
+    public BukkitScheduler getBukkitScheduler() {
+        return bukkitScheduler;
+    }
+
+    public GlobalRegionScheduler getGlobalRegionScheduler() {
+        return globalScheduler;
+    }
+
+    public RegionScheduler getRegionScheduler() {
+        return regionScheduler;
+    }
+
+    /**
+     * Returns the Folia async scheduler stand-in.
+     *
+     * @param inline whether tasks without delay should run on the submitting thread before the scheduler returns,
+     *               which is the worst case for the task wrapper handoff
+     * @return the async scheduler
+     */
+    public AsyncScheduler getAsyncScheduler(boolean inline) {
+        return inline ? inlineAsyncScheduler : asyncScheduler;
+    }
+
+    /**
+     * Creates a platform that only provides the plugin and the given schedulers, for the parts of the library
+     * that are built on top of a {@link Platform}. The main thread counts as the global tick thread and as the
+     * owner of every region, chunks are loaded on the async pool and default methods keep their implementation.
+     *
+     * @param type     the type of the platform
+     * @param global   the global scheduler of the platform
+     * @param region   the region scheduler of the platform
+     * @param async    the async scheduler of the platform
+     * @param entities the entity schedulers of the platform
+     * @return the platform
+     */
+    public Platform createPlatform(Type type, IGlobalScheduler global, IRegionScheduler region, IAsyncScheduler async,
+                                   Function<Entity, IEntityScheduler> entities) {
+        return Stubs.create(Platform.class, (proxy, method, args) -> method.isDefault()
+                ? InvocationHandler.invokeDefault(proxy, method, args)
+                : switch (method.getName()) {
+            case "getPlugin" -> plugin;
+            case "getType" -> type;
+            case "getGlobalScheduler" -> global;
+            case "getRegionScheduler" -> region;
+            case "getAsyncScheduler" -> async;
+            case "getEntityScheduler" -> entities.apply((Entity) args[0]);
+            case "getChunkAtAsync" -> CompletableFuture.supplyAsync(() -> chunkAt((int) args[1], (int) args[2]), this.async);
+            case "isChunkGenerated" -> true;
+            case "isGlobalTickThread", "isTickThread", "isOwnedByCurrentRegion" -> isPrimaryThread();
+            default -> Stubs.defaultValue(method);
+        });
+    }
+
+    private Chunk chunkAt(int x, int z) {
+        return Stubs.create(Chunk.class, (proxy, method, args) -> switch (method.getName()) {
+            case "getX" -> x;
+            case "getZ" -> z;
+            case "getWorld" -> world;
+            default -> Stubs.defaultValue(method);
+        });
+    }
+
+    public boolean isPrimaryThread() {
+        return Thread.currentThread() == mainThread;
+    }
+
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Returns the number of tick based tasks that are still waiting to be executed.
+     *
+     * @return the number of pending tasks
+     */
+    public int getPendingTasks() {
+        return pending.size() + incoming.size();
+    }
+
+    <T extends FakeTask> T schedule(T task) {
+        task.due = currentTick + Math.max(1, task.delay);
+        incoming.add(task);
+        return task;
+    }
+
+    /**
+     * Queues a task for the current tick. It runs before the tick ends if the tick is running, otherwise on the next one.
+     */
+    <T extends FakeTask> T scheduleNow(T task) {
+        task.due = currentTick;
+        incoming.add(task);
+        return task;
+    }
+
+    void executeAsync(FakeTask task) {
+        task.future = async.submit(task::execute);
+    }
+
+    void executeAsync(FakeTask task, long delay, long period, TimeUnit unit) {
+        if (period > 0) task.future = timer.scheduleAtFixedRate(() -> async.execute(task::execute), delay, period, unit);
+        else task.future = timer.schedule(() -> async.execute(task::execute), delay, unit);
+    }
+
+    /**
+     * Runs a single server tick on the calling thread.
+     */
+    public void tick() {
+        mainThread = Thread.currentThread();
+        final long tick = ++currentTick;
+        for (FakeTask task; (task = next(tick)) != null; ) {
+            if (task.isDone()) continue;
+            if (task.async) executeAsync(task);
+            else task.execute();
+
+            if (task.isRepeating() && !task.isDone()) {
+                task.due = tick + task.period;
+                pending.add(task);
+            }
+        }
+    }
+
+    private FakeTask next(long tick) {
+        for (FakeTask task; (task = incoming.poll()) != null; ) {
+            pending.add(task);
+        }
+        final FakeTask task = pending.peek();
+        return task != null && task.due <= tick ? pending.poll() : null;
+    }
+
+    /**
+     * Starts a thread that ticks the server in a loop, simulating lag by the given tick duration.
+     *
+     * @param tickMillis the duration of a single tick in milliseconds
+     */
+    public void startTicking(long tickMillis) {
+        Thread thread = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                long next = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(tickMillis);
+                tick();
+                LockSupport.parkNanos(next - System.nanoTime());
+            }
+        }, "Fake Server Thread");
+        thread.setDaemon(true);
+        thread.start();
+        ticker = thread;
+    }
+
+    @Override
+    public void close() {
+        Thread ticker = this.ticker;
+        if (ticker != null) ticker.interrupt();
+        incoming.clear();
+        pending.clear();
+        async.shutdownNow();
+        timer.shutdownNow();
+    }
+}
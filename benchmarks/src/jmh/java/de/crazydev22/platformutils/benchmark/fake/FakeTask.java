@@ -0,0 +1,71 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.benchmark.fake;
+
+import org.bukkit.plugin.Plugin;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Common state of the tasks created by the stand-in schedulers. Tick based tasks are ordered by the tick
+ * they are due, like the entries of the CraftBukkit and Folia schedulers.
+ */
+abstract class FakeTask implements Comparable<FakeTask> {
+    private static final AtomicInteger IDS = new AtomicInteger();
+
+    protected final Plugin plugin;
+    protected final long delay;
+    protected final long period;
+    protected final boolean async;
+    protected final int id = IDS.incrementAndGet();
+    volatile Future<?> future;
+    long due;
+
+    protected FakeTask(Plugin plugin, long delay, long period, boolean async) {
+        this.plugin = plugin;
+        this.delay = delay;
+        this.period = period;
+        this.async = async;
+    }
+
+    boolean isRepeating() {
+        return period > 0;
+    }
+
+    abstract boolean isDone();
+
+    abstract void execute();
+
+    protected void cancelFuture() {
+        Future<?> future = this.future;
+        if (future != null) future.cancel(false);
+    }
+
+    @Override
+    public int compareTo(FakeTask o) {
+        int cmp = Long.compare(due, o.due);
+        return cmp != 0 ? cmp : Integer.compare(id, o.id);
+    }
+}
@@ -82,6 +82,7 @@ tasks {
         dependsOn(included)
         duplicatesStrategy = DuplicatesStrategy.EXCLUDE
         from(provider { included.resolve().map { zipTree(it) } })
+        manifest.attributes("Multi-Release" to "true")
     }
 
     register<Jar>("sourcesJar") {
@@ -29,6 +29,8 @@ import de.crazydev22.platformutils.Platform;
 import de.crazydev22.platformutils.Type;
 import de.crazydev22.platformutils.paper.scheduler.*;
 import de.crazydev22.platformutils.scheduler.*;
+import de.crazydev22.platformutils.scheduler.metrics.ISchedulerMetrics;
+import de.crazydev22.platformutils.scheduler.metrics.SchedulerMetrics;
 import org.bukkit.*;
 import org.bukkit.block.Block;
 import org.bukkit.entity.Entity;
@@ -39,6 +41,7 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Range;
 
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BooleanSupplier;
 
@@ -47,19 +50,44 @@ public class PaperPlatform implements Platform {
     private final Plugin plugin;
     private final Server server;
     private final IAsyncScheduler async;
+    private final AsyncMode asyncMode;
     private final IGlobalScheduler global;
     private final IRegionScheduler region;
     private final BooleanSupplier globalTickThread;
+    private final TaskScopes scopes;
+    private final SchedulerMetrics metrics;
+    private final IAsyncScheduler meteredAsync;
+    private final IGlobalScheduler meteredGlobal;
+    private final IRegionScheduler meteredRegion;
     private final AudienceProvider provider;
     private final Type type;
 
     public PaperPlatform(@NotNull Plugin plugin) {
+        this(plugin, AsyncMode.PLATFORM);
+    }
+
+    public PaperPlatform(@NotNull Plugin plugin, @NotNull AsyncMode asyncMode) {
         this.plugin = plugin;
         this.server = plugin.getServer();
-        async = new PaperAsyncScheduler(plugin, server.getAsyncScheduler());
+        this.asyncMode = asyncMode.resolve(plugin);
+        if (this.asyncMode == AsyncMode.VIRTUAL_THREADS) {
+            var async = new ExecutorAsyncScheduler(plugin, ExecutorAsyncScheduler.createVirtualThreadPool(plugin));
+            server.getPluginManager().registerEvents(async, plugin);
+            this.async = async;
+        } else {
+            async = new PaperAsyncScheduler(plugin, server.getAsyncScheduler());
+        }
         global = new PaperGlobalScheduler(plugin, server.getGlobalRegionScheduler());
         region = new PaperRegionScheduler(plugin, server.getRegionScheduler());
+        metrics = new SchedulerMetrics(plugin);
+        server.getPluginManager().registerEvents(metrics, plugin);
+        meteredAsync = metrics.async(async);
+        meteredGlobal = metrics.global(global);
+        meteredRegion = metrics.region(region);
         provider = new PaperAudienceProvider();
+        scopes = new TaskScopes(this);
+        server.getPluginManager().registerEvents(scopes, plugin);
+        server.getPluginManager().registerEvents(new PaperTickLoad(), plugin);
 
         BooleanSupplier method;
         Type type;
@@ -126,22 +154,33 @@ public class PaperPlatform implements Platform {
 
     @Override
     public @NotNull IAsyncScheduler getAsyncScheduler() {
-        return async;
+        return metrics.isActive() ? meteredAsync : async;
+    }
+
+    @Override
+    public @NotNull AsyncMode getAsyncMode() {
+        return asyncMode;
+    }
+
+    @Override
+    public @NotNull ISchedulerMetrics getMetrics() {
+        return metrics;
     }
 
     @Override
     public @NotNull IEntityScheduler getEntityScheduler(@NotNull Entity entity) {
-        return new PaperEntityScheduler(plugin, entity.getScheduler());
+        var scheduler = new PaperEntityScheduler(plugin, entity.getScheduler());
+        return metrics.isActive() ? metrics.entity(scheduler, entity) : scheduler;
     }
 
     @Override
     public @NotNull IGlobalScheduler getGlobalScheduler() {
-        return global;
+        return metrics.isActive() ? meteredGlobal : global;
     }
 
     @Override
     public @NotNull IRegionScheduler getRegionScheduler() {
-        return region;
+        return metrics.isActive() ? meteredRegion : region;
     }
 
     @Override
@@ -159,9 +198,15 @@ public class PaperPlatform implements Platform {
         return world.isChunkGenerated(x, z) ;
     }
 
+    @Override
+    public @NotNull ITaskScope createScope(@NotNull Duration drainTimeout) {
+        return scopes.create(drainTimeout);
+    }
+
     @Override
     public @NotNull IRegionExecutor createRegionExecutor(@Range(from = 1, to = Integer.MAX_VALUE) int msPerTick) {
-        return new PaperRegionExecutor(this, msPerTick);
+        var executor = new PaperRegionExecutor(this, msPerTick);
+        return metrics.isActive() ? metrics.regionExecutor(executor) : executor;
     }
 
     @Override
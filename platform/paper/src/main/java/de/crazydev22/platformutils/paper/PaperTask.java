@@ -29,28 +29,48 @@ import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
 import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 @ApiStatus.Internal
 public class PaperTask implements Task {
-    protected final ScheduledTask task;
+    protected final Plugin plugin;
+    protected final boolean repeating;
     protected final boolean async;
+    private volatile ScheduledTask task;
+    private volatile boolean cancelled;
 
-    public PaperTask(@NotNull ScheduledTask task, boolean async) {
-        this.task = task;
+    public PaperTask(@NotNull Plugin plugin, boolean repeating, boolean async) {
+        this.plugin = plugin;
+        this.repeating = repeating;
         this.async = async;
     }
 
+    /**
+     * Binds the scheduled platform task to this wrapper. This is called once the platform returned the task
+     * and again by the task itself when it starts, whichever happens first wins without waiting for the other.
+     *
+     * @param task the platform task, may be null if the platform refused to schedule it
+     */
+    public void bind(@Nullable ScheduledTask task) {
+        if (task == null || this.task != null) return;
+        this.task = task;
+        if (cancelled) task.cancel();
+    }
+
     @Override
     public @NotNull Plugin getOwner() {
-        return task.getOwningPlugin();
+        return plugin;
     }
 
     @Override
     public boolean isRepeating() {
-        return task.isRepeatingTask();
+        return repeating;
     }
 
     @Override
@@ -60,49 +80,120 @@ public class PaperTask implements Task {
 
     @Override
     public @NotNull CancelledState cancel() {
-        return wrapState(task.cancel());
+        var task = this.task;
+        if (task != null) return wrapState(task.cancel());
+        if (cancelled) return CancelledState.CANCELLED_ALREADY;
+
+        cancelled = true;
+        task = this.task;
+        return task != null ? wrapState(task.cancel()) : CancelledState.CANCELLED_BY_CALLER;
     }
 
     @Override
     public @NotNull ExecutionState getExecutionState() {
-        return wrapState(task.getExecutionState());
+        final ScheduledTask task = this.task;
+        if (task != null) return wrapState(task.getExecutionState());
+        return cancelled ? ExecutionState.CANCELLED : ExecutionState.IDLE;
+    }
+
+    public void run(@NotNull ScheduledTask task, @NotNull Consumer<Task> action) {
+        if (begin(task)) action.accept(this);
+    }
+
+    protected boolean begin(@NotNull ScheduledTask task) {
+        bind(task);
+        return !cancelled;
     }
 
+    /**
+     * A task producing a result. The {@link CompletableFuture} is only created once {@link #getResult()} is called,
+     * until then the outcome is kept in a single field and handed to the future when it is requested.
+     */
     @ApiStatus.Internal
     public static class Completable<T> extends PaperTask implements CompletableTask<T> {
-        private final CompletableFuture<T> result = new CompletableFuture<>();
-
-        public Completable(@NotNull ScheduledTask task, boolean async) {
-            super(task, async);
+        private static final VarHandle OUTCOME;
+        private static final VarHandle RESULT;
+        private static final Object NIL = new Object();
+        private static final Object CANCELLED = new Object();
+        private volatile Object outcome;
+        private volatile CompletableFuture<T> result;
+
+        public Completable(@NotNull Plugin plugin, boolean async) {
+            super(plugin, false, async);
         }
 
         @Override
         public @NotNull CancelledState cancel() {
-            ScheduledTask.CancelledState cancel = task.cancel();
-            if (cancel == ScheduledTask.CancelledState.CANCELLED_BY_CALLER || cancel == ScheduledTask.CancelledState.CANCELLED_ALREADY) {
-                result.cancel(false);
+            final CancelledState cancel = super.cancel();
+            if (cancel == CancelledState.CANCELLED_BY_CALLER || cancel == CancelledState.CANCELLED_ALREADY) {
+                publish(CANCELLED);
             }
-            return wrapState(cancel);
+            return cancel;
+        }
+
+        public void complete(@NotNull ScheduledTask task, @NotNull Function<CompletableTask<T>, T> function) {
+            if (begin(task)) complete(function);
         }
 
         @Override
         public void complete(@NotNull Function<CompletableTask<T>, T> function) {
-            final CompletableFuture<T> result = getResult();
-            if (result.isDone()) {
+            if (isDone()) {
                 return;
             }
 
             try {
-                result.complete(function.apply(this));
+                final T value = function.apply(this);
+                publish(value != null ? value : NIL);
             } catch (Throwable e) {
-                result.completeExceptionally(e);
+                publish(new Failure(e));
             }
         }
 
         @Override
         public @NotNull CompletableFuture<T> getResult() {
+            CompletableFuture<T> result = this.result;
+            if (result != null) return result;
+            if (!RESULT.compareAndSet(this, null, result = new CompletableFuture<>()))
+                return this.result;
+
+            final Object outcome = this.outcome;
+            if (outcome != null) publish(outcome, result);
             return result;
         }
+
+        /**
+         * Checks whether the result is settled, either by this task or by completing the future directly.
+         */
+        private boolean isDone() {
+            if (outcome != null) return true;
+            final CompletableFuture<T> result = this.result;
+            return result != null && result.isDone();
+        }
+
+        private void publish(Object outcome) {
+            if (!OUTCOME.compareAndSet(this, null, outcome)) return;
+            final CompletableFuture<T> result = this.result;
+            if (result != null) publish(outcome, result);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void publish(Object outcome, CompletableFuture<T> result) {
+            if (outcome == CANCELLED) result.cancel(false);
+            else if (outcome instanceof Failure failure) result.completeExceptionally(failure.cause);
+            else result.complete(outcome == NIL ? null : (T) outcome);
+        }
+
+        static {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                OUTCOME = lookup.findVarHandle(Completable.class, "outcome", Object.class);
+                RESULT = lookup.findVarHandle(Completable.class, "result", CompletableFuture.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private record Failure(Throwable cause) {}
     }
 
     private static CancelledState wrapState(ScheduledTask.CancelledState state) {
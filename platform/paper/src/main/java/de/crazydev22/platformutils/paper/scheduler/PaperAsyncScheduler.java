@@ -26,7 +26,6 @@ package de.crazydev22.platformutils.paper.scheduler;
 import de.crazydev22.platformutils.paper.PaperTask;
 import de.crazydev22.platformutils.scheduler.IAsyncScheduler;
 import de.crazydev22.platformutils.scheduler.task.CompletableTask;
-import de.crazydev22.platformutils.scheduler.task.Ref;
 import de.crazydev22.platformutils.scheduler.task.Task;
 import io.papermc.paper.threadedregions.scheduler.AsyncScheduler;
 import org.bukkit.plugin.Plugin;
@@ -50,16 +49,23 @@ public class PaperAsyncScheduler implements IAsyncScheduler {
 
     @Override
     public @NotNull <R> CompletableTask<R> run(@NotNull Function<CompletableTask<R>, R> task) {
-        Ref<PaperTask.Completable<R>> ref = new Ref<>();
-        return ref.set(new PaperTask.Completable<>(scheduler.runNow(plugin, ref.consume(task, PaperTask.Completable::complete)), true));
+        var wrapped = new PaperTask.Completable<R>(plugin, true);
+        wrapped.bind(scheduler.runNow(plugin, t -> wrapped.complete(t, task)));
+        return wrapped;
+    }
+
+    @Override
+    public void execute(@NotNull Runnable task) {
+        scheduler.runNow(plugin, t -> task.run());
     }
 
     @Override
     public @NotNull <R> CompletableTask<R> runDelayed(@NotNull Function<CompletableTask<R>, R> task,
                                                       @Range(from = 0, to = Long.MAX_VALUE) long delay,
                                                       @NotNull TimeUnit unit) {
-        Ref<PaperTask.Completable<R>> ref = new Ref<>();
-        return ref.set(new PaperTask.Completable<>(scheduler.runDelayed(plugin, ref.consume(task, PaperTask.Completable::complete), delay, unit), true));
+        var wrapped = new PaperTask.Completable<R>(plugin, true);
+        wrapped.bind(scheduler.runDelayed(plugin, t -> wrapped.complete(t, task), delay, unit));
+        return wrapped;
     }
 
     @Override
@@ -67,7 +73,8 @@ public class PaperAsyncScheduler implements IAsyncScheduler {
                                         @Range(from = 0, to = Long.MAX_VALUE) long initialDelay,
                                         @Range(from = 1, to = Long.MAX_VALUE) long period,
                                         @NotNull TimeUnit unit) {
-        Ref<Task> ref = new Ref<>();
-        return ref.set(new PaperTask(scheduler.runAtFixedRate(plugin, ref.consume(task), initialDelay, period, unit), true));
+        var wrapped = new PaperTask(plugin, true, true);
+        wrapped.bind(scheduler.runAtFixedRate(plugin, t -> wrapped.run(t, task), initialDelay, period, unit));
+        return wrapped;
     }
 }
@@ -26,7 +26,6 @@ package de.crazydev22.platformutils.paper.scheduler;
 import de.crazydev22.platformutils.paper.PaperTask;
 import de.crazydev22.platformutils.scheduler.IEntityScheduler;
 import de.crazydev22.platformutils.scheduler.task.CompletableTask;
-import de.crazydev22.platformutils.scheduler.task.Ref;
 import de.crazydev22.platformutils.scheduler.task.Task;
 import io.papermc.paper.threadedregions.scheduler.EntityScheduler;
 import org.bukkit.plugin.Plugin;
@@ -48,17 +47,38 @@ public class PaperEntityScheduler implements IEntityScheduler {
         this.scheduler = scheduler;
     }
 
+    @Override
+    public boolean execute(@NotNull Runnable task,
+                           @Nullable Runnable retired,
+                           @Range(from = 1, to = Long.MAX_VALUE) long delayTicks) {
+        return scheduler.execute(plugin, task, retired, delayTicks);
+    }
+
+    @Override
+    public @Nullable <R> CompletableTask<R> run(@NotNull Function<CompletableTask<R>, R> task,
+                                                @Nullable Runnable retired) {
+        var wrapped = new PaperTask.Completable<R>(plugin, false);
+        var raw = scheduler.run(plugin, t -> wrapped.complete(t, task), () -> {
+            if (retired != null) retired.run();
+            wrapped.cancel();
+        });
+        if (raw == null) return null;
+        wrapped.bind(raw);
+        return wrapped;
+    }
+
     @Override
     public @Nullable <R> CompletableTask<R> runDelayed(@NotNull Function<CompletableTask<R>, R> task,
                                                        @Nullable Runnable retired,
                                                        @Range(from = 1, to = Long.MAX_VALUE) long delayTicks) {
-        Ref<PaperTask.Completable<R>> ref = new Ref<>();
-        var raw = scheduler.runDelayed(plugin, ref.consume(task, PaperTask.Completable::complete), () -> {
+        var wrapped = new PaperTask.Completable<R>(plugin, false);
+        var raw = scheduler.runDelayed(plugin, t -> wrapped.complete(t, task), () -> {
             if (retired != null) retired.run();
-            ref.get().cancel();
+            wrapped.cancel();
         }, delayTicks);
         if (raw == null) return null;
-        return ref.set(new PaperTask.Completable<>(raw, false));
+        wrapped.bind(raw);
+        return wrapped;
     }
 
     @Override
@@ -66,9 +86,10 @@ public class PaperEntityScheduler implements IEntityScheduler {
                                          @Nullable Runnable retired,
                                          @Range(from = 1, to = Long.MAX_VALUE) long initialDelayTicks,
                                          @Range(from = 1, to = Long.MAX_VALUE) long periodTicks) {
-        Ref<Task> ref = new Ref<>();
-        var raw = scheduler.runAtFixedRate(plugin, ref.consume(task), retired, initialDelayTicks, periodTicks);
+        var wrapped = new PaperTask(plugin, true, false);
+        var raw = scheduler.runAtFixedRate(plugin, t -> wrapped.run(t, task), retired, initialDelayTicks, periodTicks);
         if (raw == null) return null;
-        return ref.set(new PaperTask(raw, false));
+        wrapped.bind(raw);
+        return wrapped;
     }
 }
@@ -26,7 +26,6 @@ package de.crazydev22.platformutils.paper.scheduler;
 import de.crazydev22.platformutils.paper.PaperTask;
 import de.crazydev22.platformutils.scheduler.IGlobalScheduler;
 import de.crazydev22.platformutils.scheduler.task.CompletableTask;
-import de.crazydev22.platformutils.scheduler.task.Ref;
 import de.crazydev22.platformutils.scheduler.task.Task;
 import io.papermc.paper.threadedregions.scheduler.GlobalRegionScheduler;
 import org.bukkit.plugin.Plugin;
@@ -47,18 +46,32 @@ public class PaperGlobalScheduler implements IGlobalScheduler {
         this.scheduler = scheduler;
     }
 
+    @Override
+    public @NotNull <R> CompletableTask<R> run(@NotNull Function<CompletableTask<R>, R> task) {
+        var wrapped = new PaperTask.Completable<R>(plugin, false);
+        wrapped.bind(scheduler.run(plugin, t -> wrapped.complete(t, task)));
+        return wrapped;
+    }
+
+    @Override
+    public void execute(@NotNull Runnable task) {
+        scheduler.execute(plugin, task);
+    }
+
     @Override
     public @NotNull <R> CompletableTask<R> runDelayed(@NotNull Function<CompletableTask<R>, R> task,
                                                       @Range(from = 1, to = Long.MAX_VALUE) long delayTicks) {
-        Ref<PaperTask.Completable<R>> ref = new Ref<>();
-        return ref.set(new PaperTask.Completable<>(scheduler.runDelayed(plugin, ref.consume(task, PaperTask.Completable::complete), delayTicks), false));
+        var wrapped = new PaperTask.Completable<R>(plugin, false);
+        wrapped.bind(scheduler.runDelayed(plugin, t -> wrapped.complete(t, task), delayTicks));
+        return wrapped;
     }
 
     @Override
     public @NotNull Task runAtFixedRate(@NotNull Consumer<Task> task,
                                         @Range(from = 1, to = Long.MAX_VALUE) long initialDelayTicks,
                                         @Range(from = 1, to = Long.MAX_VALUE) long periodTicks) {
-        Ref<Task> ref = new Ref<>();
-        return ref.set(new PaperTask(scheduler.runAtFixedRate(plugin, ref.consume(task), initialDelayTicks, periodTicks), false));
+        var wrapped = new PaperTask(plugin, true, false);
+        wrapped.bind(scheduler.runAtFixedRate(plugin, t -> wrapped.run(t, task), initialDelayTicks, periodTicks));
+        return wrapped;
     }
 }
@@ -23,64 +23,91 @@
  */
 package de.crazydev22.platformutils.paper.scheduler;
 
-import com.destroystokyo.paper.event.server.ServerTickEndEvent;
-import de.crazydev22.platformutils.paper.PaperPlatform;
+import de.crazydev22.platformutils.Platform;
 import de.crazydev22.platformutils.scheduler.IRegionExecutor;
 import de.crazydev22.platformutils.scheduler.IRegionScheduler;
-import org.bukkit.Bukkit;
+import de.crazydev22.platformutils.scheduler.TaskMultiplexer;
+import de.crazydev22.platformutils.scheduler.task.Task;
 import org.bukkit.World;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.Listener;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.*;
 
+/**
+ * Queues tasks per region section, which is never split across regions, instead of per chunk. Each queue is drained
+ * by a repeating task on the region scheduler anchored at the chunk of its first task. A queue that stayed empty for
+ * {@link #IDLE_TICKS} ticks cancels its task and removes itself, the next task for the section creates a new queue.
+ * <p>
+ * The time spent per region tick is measured with {@link System#nanoTime()} and shared with the other executors
+ * active in the same region tick through the {@link RegionTickBudget} of the region thread.
+ */
 @ApiStatus.Internal
-public class PaperRegionExecutor implements IRegionExecutor, Listener {
+public class PaperRegionExecutor implements IRegionExecutor {
+    /**
+     * The number of ticks a queue stays scheduled without work before it is reclaimed.
+     */
+    public static final int IDLE_TICKS = 20;
+
     private final Semaphore latch = new Semaphore(Integer.MAX_VALUE, true);
-    private final ThreadLocal<Long> limit;
+    private final Platform platform;
+    private final long budget;
 
     private final IRegionScheduler scheduler;
-    private final Map<Key, Queue<Runnable>> queues;
+    private final Map<Key, RegionQueue> queues;
     private volatile boolean closed = false;
 
-    public PaperRegionExecutor(PaperPlatform platform, int msPerTick) {
+    public PaperRegionExecutor(Platform platform, int msPerTick) {
+        this.platform = platform;
+        this.budget = TimeUnit.MILLISECONDS.toNanos(msPerTick);
         this.scheduler = platform.getRegionScheduler();
-        this.limit = ThreadLocal.withInitial(() -> System.currentTimeMillis() + msPerTick);
         this.queues = new ConcurrentHashMap<>();
-        Bukkit.getPluginManager().registerEvents(this, platform.getPlugin());
     }
 
     @Override
     public <T> CompletableFuture<T> queue(@NotNull World world, int chunkX, int chunkZ, @NotNull Callable<T> callable) {
         if (closed) throw new IllegalStateException("Executor is closed!");
         CompletableFuture<T> future = new CompletableFuture<>();
-        queues.computeIfAbsent(new Key(world, chunkX, chunkZ), this::createExecutor)
-                .add(IRegionExecutor.complete(future, callable));
-        return future;
-    }
+        Runnable task = IRegionExecutor.complete(future, callable);
+        var key = new Key(world, chunkX >> TaskMultiplexer.SECTION_SHIFT, chunkZ >> TaskMultiplexer.SECTION_SHIFT);
 
-    private Queue<Runnable> createExecutor(Key key) {
-        latch.acquireUninterruptibly();
-        var queue = new ConcurrentLinkedQueue<Runnable>();
-        scheduler.runAtFixedRate(key.world, key.x, key.z, t -> {
-            var time = limit.get();
-            while (time > System.currentTimeMillis()) {
-                Runnable r = queue.poll();
-                if (r == null) break;
-                r.run();
-            }
-
-            if (closed && queue.isEmpty()) {
-                t.cancel();
+        for (;;) {
+            RegionQueue queue = queues.get(key);
+            if (queue == null) {
+                var created = new RegionQueue(key, chunkX, chunkZ);
+                latch.acquireUninterruptibly();
+                if ((queue = queues.putIfAbsent(key, created)) == null) {
+                    created.add(task);
+                    scheduler.runAtFixedRate(world, chunkX, chunkZ, created::run, 1, 1);
+                    return future;
+                }
                 latch.release();
-                queues.remove(key);
             }
-        }, 1, 1);
-        return queue;
+            if (queue.add(task)) return future;
+        }
+    }
+
+    /**
+     * Returns the number of queues that are currently scheduled.
+     *
+     * @return the number of active queues
+     */
+    public int getQueueCount() {
+        return queues.size();
+    }
+
+    @Override
+    public @NotNull List<RegionStatistics> getStatistics() {
+        var statistics = new ArrayList<RegionStatistics>(queues.size());
+        for (RegionQueue queue : queues.values()) {
+            statistics.add(new RegionStatistics(queue.key.world, queue.chunkX, queue.chunkZ,
+                    queue.ticks, queue.budgetTime, queue.usedTime, queue.exhausted));
+        }
+        return statistics;
     }
 
     @Override
@@ -90,10 +117,63 @@ public class PaperRegionExecutor implements IRegionExecutor, Listener {
         latch.release(Integer.MAX_VALUE);
     }
 
-    @EventHandler
-    public void onTickEnd(ServerTickEndEvent event) {
-        limit.remove();
+    private final class RegionQueue {
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private final Key key;
+        private final int chunkX;
+        private final int chunkZ;
+        private long epoch = -1;
+        private int idle;
+        private boolean retired;
+        private volatile long ticks;
+        private volatile long budgetTime;
+        private volatile long usedTime;
+        private volatile long exhausted;
+
+        private RegionQueue(Key key, int chunkX, int chunkZ) {
+            this.key = key;
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+        }
+
+        private synchronized boolean add(Runnable task) {
+            if (retired) return false;
+            tasks.add(task);
+            return true;
+        }
+
+        private void run(Task handle) {
+            var budget = RegionTickBudget.current();
+            long deadline = budget.open(platform, PaperRegionExecutor.this, PaperRegionExecutor.this.budget, epoch, key.world, chunkX, chunkZ);
+            epoch = budget.getEpoch();
+
+            long start = System.nanoTime(), now = start;
+            boolean worked = false;
+            while (now - deadline < 0) {
+                Runnable r = tasks.poll();
+                if (r == null) break;
+                worked = true;
+                r.run();
+                now = System.nanoTime();
+            }
+
+            ticks++;
+            budgetTime += Math.max(0, deadline - start);
+            usedTime += now - start;
+            if (!tasks.isEmpty()) exhausted++;
+
+            if (worked) idle = 0;
+            else if (tasks.isEmpty() && (closed || ++idle >= IDLE_TICKS)) retire(handle);
+        }
+
+        private synchronized void retire(Task handle) {
+            if (!tasks.isEmpty()) return;
+            retired = true;
+            queues.remove(key, this);
+            handle.cancel();
+            latch.release();
+        }
     }
 
-    private record Key(World world, int x, int z) {}
+    private record Key(World world, int sectionX, int sectionZ) {}
 }
@@ -26,7 +26,7 @@ package de.crazydev22.platformutils.paper.scheduler;
 import de.crazydev22.platformutils.paper.PaperTask;
 import de.crazydev22.platformutils.scheduler.IRegionScheduler;
 import de.crazydev22.platformutils.scheduler.task.CompletableTask;
-import de.crazydev22.platformutils.scheduler.task.Ref;
+import de.crazydev22.platformutils.scheduler.task.ManagedTask;
 import de.crazydev22.platformutils.scheduler.task.Task;
 import io.papermc.paper.threadedregions.scheduler.RegionScheduler;
 import org.bukkit.World;
@@ -48,13 +48,33 @@ public class PaperRegionScheduler implements IRegionScheduler {
         this.scheduler = scheduler;
     }
 
+    /**
+     * Runs the task through {@link RegionScheduler#execute}, which queues it for the current tick of the region
+     * instead of the next one. The execution state is tracked by the wrapper as the platform returns no handle.
+     */
+    @Override
+    public @NotNull <R> CompletableTask<R> run(@NotNull World world,
+                                               int chunkX,
+                                               int chunkZ,
+                                               @NotNull Function<CompletableTask<R>, R> task) {
+        var wrapped = new ManagedTask.Completable<R>(plugin, false);
+        scheduler.execute(plugin, world, chunkX, chunkZ, () -> wrapped.complete(task));
+        return wrapped;
+    }
+
+    @Override
+    public void execute(@NotNull World world, int chunkX, int chunkZ, @NotNull Runnable task) {
+        scheduler.execute(plugin, world, chunkX, chunkZ, task);
+    }
+
     @Override
     public @NotNull <R> CompletableTask<R> runDelayed(@NotNull World world,
                                                       int chunkX,
                                                       int chunkZ,
                                                       @NotNull Function<CompletableTask<R>, R> task, @Range(from = 1, to = Long.MAX_VALUE) long delayTicks) {
-        Ref<PaperTask.Completable<R>> ref = new Ref<>();
-        return ref.set(new PaperTask.Completable<>(scheduler.runDelayed(plugin, world, chunkX, chunkZ, ref.consume(task, PaperTask.Completable::complete), delayTicks), false));
+        var wrapped = new PaperTask.Completable<R>(plugin, false);
+        wrapped.bind(scheduler.runDelayed(plugin, world, chunkX, chunkZ, t -> wrapped.complete(t, task), delayTicks));
+        return wrapped;
     }
 
     @Override
@@ -64,7 +84,8 @@ public class PaperRegionScheduler implements IRegionScheduler {
                                         @NotNull Consumer<Task> task,
                                         @Range(from = 1, to = Long.MAX_VALUE) long initialDelayTicks,
                                         @Range(from = 1, to = Long.MAX_VALUE) long periodTicks) {
-        Ref<Task> ref = new Ref<>();
-        return ref.set(new PaperTask(scheduler.runAtFixedRate(plugin, world, chunkX, chunkZ, ref.consume(task), initialDelayTicks, periodTicks), false));
+        var wrapped = new PaperTask(plugin, true, false);
+        wrapped.bind(scheduler.runAtFixedRate(plugin, world, chunkX, chunkZ, t -> wrapped.run(t, task), initialDelayTicks, periodTicks));
+        return wrapped;
     }
 }
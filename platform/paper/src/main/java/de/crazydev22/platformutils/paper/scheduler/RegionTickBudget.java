@@ -0,0 +1,116 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.paper.scheduler;
+
+import de.crazydev22.platformutils.Platform;
+import org.bukkit.World;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The time budget of the region tick running on the current thread, shared by all region executors.
+ * <p>
+ * Folia does not announce the start of a region tick, so a new one is assumed once a queue runs a second time within
+ * the same budget, once the chunk that opened the budget is no longer owned by the current region, or once a whole
+ * tick passed since it was opened. The budget of a region tick is the largest budget of the executors taking part.
+ * Each executor gets a slice of the time that is left, split evenly between it and the executors of the previous
+ * tick that did not run yet. Time an executor leaves unused is handed to the executors after it.
+ */
+@ApiStatus.Internal
+public final class RegionTickBudget {
+    private static final long TICK = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final ThreadLocal<RegionTickBudget> CURRENT = ThreadLocal.withInitial(RegionTickBudget::new);
+
+    private final Map<Object, Long> deadlines = new IdentityHashMap<>();
+    private World world;
+    private int chunkX;
+    private int chunkZ;
+    private long epoch;
+    private long start;
+    private long end;
+    private int expected;
+    private int participants;
+
+    private RegionTickBudget() {}
+
+    /**
+     * Returns the budget of the current thread.
+     *
+     * @return the budget
+     */
+    public static @NotNull RegionTickBudget current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Returns the region tick the budget currently belongs to, which is increased each time a new one is detected.
+     *
+     * @return the current epoch
+     */
+    public long getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * Opens the budget for a queue of an executor. Every queue of an executor shares the slice of the executor.
+     *
+     * @param platform  the platform to check the ownership of the region with
+     * @param executor  the executor the queue belongs to
+     * @param budget    the budget of the executor per tick in nanoseconds
+     * @param lastEpoch the epoch the queue last ran in
+     * @param world     the world of the queue
+     * @param chunkX    the chunk X coordinate of the queue
+     * @param chunkZ    the chunk Z coordinate of the queue
+     * @return the {@link System#nanoTime()} at which the queue has to stop
+     */
+    public long open(@NotNull Platform platform, @NotNull Object executor, long budget, long lastEpoch,
+                     @NotNull World world, int chunkX, int chunkZ) {
+        final long now = System.nanoTime();
+        if (this.world == null || lastEpoch == epoch || now - start >= TICK
+                || !platform.isOwnedByCurrentRegion(this.world, this.chunkX, this.chunkZ)) {
+            epoch++;
+            expected = participants;
+            participants = 0;
+            deadlines.clear();
+            this.world = world;
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+            start = end = now;
+        }
+
+        Long deadline = deadlines.get(executor);
+        if (deadline == null) {
+            participants++;
+            end = Math.max(end, start + budget);
+            final int waiting = Math.max(1, expected - participants + 1);
+            deadline = now + Math.max(0, end - now) / waiting;
+            deadlines.put(executor, deadline);
+        }
+        return deadline;
+    }
+}
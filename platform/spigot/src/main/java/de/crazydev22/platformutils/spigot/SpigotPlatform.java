@@ -28,6 +28,8 @@ import de.crazydev22.platformutils.ItemEditor;
 import de.crazydev22.platformutils.Platform;
 import de.crazydev22.platformutils.Type;
 import de.crazydev22.platformutils.scheduler.*;
+import de.crazydev22.platformutils.scheduler.metrics.ISchedulerMetrics;
+import de.crazydev22.platformutils.scheduler.metrics.SchedulerMetrics;
 import de.crazydev22.platformutils.spigot.scheduler.*;
 import org.bukkit.Chunk;
 import org.bukkit.Location;
@@ -43,23 +45,49 @@ import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Range;
 
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 
 public class SpigotPlatform implements Platform {
     private final Server server;
     private final Plugin plugin;
     private final IAsyncScheduler async;
+    private final AsyncMode asyncMode;
     private final IGlobalScheduler global;
     private final IRegionScheduler region;
+    private final SpigotEntityRegistry entities;
+    private final TaskScopes scopes;
+    private final SchedulerMetrics metrics;
+    private final IAsyncScheduler meteredAsync;
+    private final IGlobalScheduler meteredGlobal;
+    private final IRegionScheduler meteredRegion;
     private final AudienceProvider provider;
 
     public SpigotPlatform(@NotNull Plugin plugin) {
+        this(plugin, AsyncMode.PLATFORM);
+    }
+
+    public SpigotPlatform(@NotNull Plugin plugin, @NotNull AsyncMode asyncMode) {
         server = plugin.getServer();
         this.plugin = plugin;
+        this.asyncMode = asyncMode.resolve(plugin);
         var scheduler = server.getScheduler();
-        async = new SpigotAsyncScheduler(plugin, scheduler);
+        var async = new ExecutorAsyncScheduler(plugin, this.asyncMode == AsyncMode.VIRTUAL_THREADS
+                ? ExecutorAsyncScheduler.createVirtualThreadPool(plugin)
+                : ExecutorAsyncScheduler.createCachedPool(plugin));
+        server.getPluginManager().registerEvents(async, plugin);
+        this.async = async;
+        scopes = new TaskScopes(this);
+        server.getPluginManager().registerEvents(scopes, plugin);
         global = new SpigotGlobalScheduler(plugin, scheduler);
         region = new SpigotRegionScheduler(global);
+        entities = new SpigotEntityRegistry(plugin, scheduler);
+        server.getPluginManager().registerEvents(entities, plugin);
+        metrics = new SchedulerMetrics(plugin);
+        server.getPluginManager().registerEvents(metrics, plugin);
+        meteredAsync = metrics.async(async);
+        meteredGlobal = metrics.global(global);
+        meteredRegion = metrics.region(region);
         provider = new SpigotAudienceProvider(plugin);
     }
 
@@ -115,26 +143,38 @@ public class SpigotPlatform implements Platform {
 
     @Override
     public @NotNull IAsyncScheduler getAsyncScheduler() {
-        return async;
+        return metrics.isActive() ? meteredAsync : async;
+    }
+
+    @Override
+    public @NotNull AsyncMode getAsyncMode() {
+        return asyncMode;
+    }
+
+    @Override
+    public @NotNull ISchedulerMetrics getMetrics() {
+        return metrics;
     }
 
     @Override
     public @NotNull IEntityScheduler getEntityScheduler(@NotNull Entity entity) {
-        return new SpigotEntityScheduler(global, entity);
+        var scheduler = entities.get(entity);
+        return metrics.isActive() ? metrics.entity(scheduler, entity) : scheduler;
     }
 
     @Override
     public @NotNull IGlobalScheduler getGlobalScheduler() {
-        return global;
+        return metrics.isActive() ? meteredGlobal : global;
     }
 
     @Override
     public @NotNull IRegionScheduler getRegionScheduler() {
-        return region;
+        return metrics.isActive() ? meteredRegion : region;
     }
 
     @Override
     public @NotNull CompletableFuture<@NotNull Boolean> teleportAsync(@NotNull Entity entity, @NotNull Location location, PlayerTeleportEvent.@NotNull TeleportCause cause) {
+        if (isGlobalTickThread()) return CompletableFuture.completedFuture(isValid(entity) && entity.teleport(location));
         return getGlobalScheduler().<Boolean>run(task -> isValid(entity) && entity.teleport(location)).getResult().thenApply(b -> b != null ? b : false);
     }
 
@@ -149,9 +189,15 @@ public class SpigotPlatform implements Platform {
         return world.isChunkGenerated(x, z);
     }
 
+    @Override
+    public @NotNull ITaskScope createScope(@NotNull Duration drainTimeout) {
+        return scopes.create(drainTimeout);
+    }
+
     @Override
     public @NotNull IRegionExecutor createRegionExecutor(@Range(from = 1, to = Integer.MAX_VALUE) int msPerTick) {
-        return new SpigotRegionExecutor(this, msPerTick);
+        var executor = new SpigotRegionExecutor(this, msPerTick);
+        return metrics.isActive() ? metrics.regionExecutor(executor) : executor;
     }
 
     @Override
@@ -0,0 +1,124 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Julian Krings
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.crazydev22.platformutils.spigot.scheduler;
+
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDeathEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.world.EntitiesUnloadEvent;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps one {@link SpigotEntityScheduler} per entity, keyed by the entity id. Spigot has no per-entity scheduler,
+ * so the registry listens for entities being removed by death, unloading or quitting and retires all of their
+ * tasks at once. Entities removed in any other way are found by a periodic sweep, or by their next task.
+ */
+@ApiStatus.Internal
+public final class SpigotEntityRegistry implements Listener {
+    /**
+     * The interval in ticks at which schedulers of removed entities are swept out.
+     */
+    public static final long SWEEP_INTERVAL = 100;
+
+    private final Map<Integer, SpigotEntityScheduler> schedulers = new ConcurrentHashMap<>();
+    private final Plugin plugin;
+    private final BukkitScheduler bukkit;
+
+    public SpigotEntityRegistry(@NotNull Plugin plugin, @NotNull BukkitScheduler bukkit) {
+        this.plugin = plugin;
+        this.bukkit = bukkit;
+        bukkit.runTaskTimer(plugin, this::sweep, SWEEP_INTERVAL, SWEEP_INTERVAL);
+    }
+
+    /**
+     * Returns the scheduler of the entity, creating it if the entity has none yet.
+     *
+     * @param entity the entity
+     * @return the scheduler of the entity
+     */
+    public @NotNull SpigotEntityScheduler get(@NotNull Entity entity) {
+        final int id = entity.getEntityId();
+        final SpigotEntityScheduler scheduler = schedulers.get(id);
+        if (scheduler != null && scheduler.getEntity() == entity) return scheduler;
+
+        final var created = new SpigotEntityScheduler(plugin, bukkit, entity);
+        if (!created.isAlive()) return created;
+        return schedulers.compute(id, (key, current) -> current != null && current.getEntity() == entity ? current : created);
+    }
+
+    /**
+     * Returns the number of entities that currently have a scheduler.
+     *
+     * @return the number of schedulers
+     */
+    public int size() {
+        return schedulers.size();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityDeath(EntityDeathEvent event) {
+        final Entity entity = event.getEntity();
+        if (!(entity instanceof Player)) retire(entity);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        retire(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesUnload(EntitiesUnloadEvent event) {
+        for (Entity entity : event.getEntities()) {
+            retire(entity);
+        }
+    }
+
+    private void retire(Entity entity) {
+        final SpigotEntityScheduler scheduler = schedulers.get(entity.getEntityId());
+        if (scheduler == null || scheduler.getEntity() != entity) return;
+        schedulers.remove(entity.getEntityId(), scheduler);
+        scheduler.retire();
+    }
+
+    private void sweep() {
+        schedulers.values().removeIf(scheduler -> {
+            if (scheduler.isAlive()) {
+                scheduler.prune();
+                return false;
+            }
+            scheduler.retire();
+            return true;
+        });
+    }
+}
@@ -24,54 +24,207 @@
 package de.crazydev22.platformutils.spigot.scheduler;
 
 import de.crazydev22.platformutils.scheduler.IEntityScheduler;
-import de.crazydev22.platformutils.scheduler.IGlobalScheduler;
 import de.crazydev22.platformutils.scheduler.task.CompletableTask;
+import de.crazydev22.platformutils.scheduler.task.ManagedTask;
 import de.crazydev22.platformutils.scheduler.task.Task;
 import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Range;
 
+import java.lang.ref.WeakReference;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.logging.Level;
 
 import static de.crazydev22.platformutils.spigot.SpigotPlatform.isValid;
 
-
+/**
+ * The scheduler of a single entity. It keeps track of the tasks scheduled for the entity, so all of them can be
+ * retired in one pass once the {@link SpigotEntityRegistry} learns that the entity was removed. The entity is only
+ * referenced weakly, a task that runs after the entity has been collected or removed retires the scheduler as well.
+ */
 public class SpigotEntityScheduler implements IEntityScheduler {
-    private final IGlobalScheduler scheduler;
-    private final Entity entity;
+    private final Set<Tracked> tasks = ConcurrentHashMap.newKeySet();
+    private final Plugin plugin;
+    private final BukkitScheduler bukkit;
+    private final WeakReference<Entity> entity;
+    private volatile boolean retired;
+
+    public SpigotEntityScheduler(Plugin plugin, BukkitScheduler bukkit, Entity entity) {
+        this.plugin = plugin;
+        this.bukkit = bukkit;
+        this.entity = new WeakReference<>(entity);
+    }
+
+    @Override
+    public @Nullable <R> CompletableTask<R> run(@NotNull Function<CompletableTask<R>, R> task, @Nullable Runnable retired) {
+        return schedule(task, retired, 0);
+    }
 
-    public SpigotEntityScheduler(IGlobalScheduler scheduler, Entity entity) {
-        this.scheduler = scheduler;
-        this.entity = entity;
+    @Override
+    public boolean execute(@NotNull Runnable task, @Nullable Runnable retired, @Range(from = 1, to = Long.MAX_VALUE) long delayTicks) {
+        var execution = new Execution(task, retired);
+        if (!track(execution)) return false;
+        bukkit.runTaskLater(plugin, execution, delayTicks);
+        return true;
     }
 
     @Override
     public @Nullable <R> CompletableTask<R> runDelayed(@NotNull Function<CompletableTask<R>, R> task, @Nullable Runnable retired, @Range(from = 1, to = Long.MAX_VALUE) long delayTicks) {
-        if (!isValid(entity)) return null;
-        return scheduler.runDelayed(t -> {
-            if (!isValid(entity)) {
-                t.cancel();
-                if (retired != null)
-                    retired.run();
-                return null;
-            }
-            return task.apply(t);
-        }, delayTicks);
+        return schedule(task, retired, delayTicks);
     }
 
     @Override
     public @Nullable Task runAtFixedRate(@NotNull Consumer<Task> task, @Nullable Runnable retired, @Range(from = 1, to = Long.MAX_VALUE) long initialDelayTicks, @Range(from = 1, to = Long.MAX_VALUE) long periodTicks) {
-        if (!isValid(entity)) return null;
-        return scheduler.runAtFixedRate(t -> {
-            if (!isValid(entity)) {
-                t.cancel();
-                if (retired != null)
-                    retired.run();
-                return;
+        var wrapped = new ManagedTask(plugin, true, false);
+        var tracked = new Scheduled(wrapped, retired);
+        if (!track(tracked)) return null;
+        wrapped.bind(bukkit.runTaskTimer(plugin, () -> {
+            if (begin()) wrapped.run(task);
+        }, initialDelayTicks, periodTicks));
+        return wrapped;
+    }
+
+    private <R> @Nullable CompletableTask<R> schedule(Function<CompletableTask<R>, R> task, @Nullable Runnable retired, long delayTicks) {
+        var wrapped = new ManagedTask.Completable<R>(plugin, false);
+        var tracked = new Scheduled(wrapped, retired);
+        if (!track(tracked)) return null;
+        Runnable action = () -> {
+            if (!begin()) return;
+            tasks.remove(tracked);
+            wrapped.complete(task);
+        };
+        wrapped.bind(delayTicks == 0 ? bukkit.runTask(plugin, action) : bukkit.runTaskLater(plugin, action, delayTicks));
+        return wrapped;
+    }
+
+    private synchronized boolean track(Tracked tracked) {
+        if (!isAlive()) return false;
+        tasks.add(tracked);
+        return true;
+    }
+
+    /**
+     * Checks whether the entity is still valid before a task runs and retires the scheduler otherwise.
+     *
+     * @return true if the task may run
+     */
+    private boolean begin() {
+        if (isAlive()) return true;
+        retire();
+        return false;
+    }
+
+    /**
+     * Returns the entity of this scheduler, or {@code null} if it has already been collected.
+     *
+     * @return the entity
+     */
+    public @Nullable Entity getEntity() {
+        return entity.get();
+    }
+
+    /**
+     * Checks whether the scheduler is neither retired nor its entity removed.
+     *
+     * @return true if tasks may still be scheduled
+     */
+    public boolean isAlive() {
+        if (retired) return false;
+        final Entity entity = this.entity.get();
+        return entity != null && isValid(entity);
+    }
+
+    /**
+     * Forgets the tasks that already finished or were cancelled.
+     */
+    void prune() {
+        tasks.removeIf(Tracked::isDone);
+    }
+
+    /**
+     * Retires the scheduler, cancelling every task that has not run yet and invoking its retired callback.
+     * This must be called on the main thread.
+     */
+    synchronized void retire() {
+        if (retired) return;
+        retired = true;
+        for (Tracked tracked : tasks) {
+            if (!tracked.cancel() || tracked.retired() == null) continue;
+            try {
+                tracked.retired().run();
+            } catch (Throwable e) {
+                plugin.getLogger().log(Level.SEVERE, "Exception while retiring entity task", e);
             }
-            task.accept(t);
-        }, initialDelayTicks, periodTicks);
+        }
+        tasks.clear();
+    }
+
+    private interface Tracked {
+        /**
+         * Cancels the task if it has not run yet.
+         *
+         * @return true if the task was cancelled and is owed its retired callback
+         */
+        boolean cancel();
+
+        boolean isDone();
+
+        @Nullable Runnable retired();
+    }
+
+    private record Scheduled(ManagedTask task, @Nullable Runnable retired) implements Tracked {
+        @Override
+        public boolean cancel() {
+            final Task.CancelledState state = task.cancel();
+            return state == Task.CancelledState.CANCELLED_BY_CALLER || state == Task.CancelledState.NEXT_RUNS_CANCELLED;
+        }
+
+        @Override
+        public boolean isDone() {
+            return task.getExecutionState() == Task.ExecutionState.FINISHED || task.isCancelled();
+        }
+    }
+
+    /**
+     * A task scheduled by {@link #execute(Runnable, Runnable, long)}, which has no handle. It is the action passed to
+     * bukkit as well, whichever of the run and the retirement claims it first wins.
+     */
+    private final class Execution extends AtomicBoolean implements Tracked, Runnable {
+        private final Runnable task;
+        private final @Nullable Runnable retired;
+
+        private Execution(Runnable task, @Nullable Runnable retired) {
+            this.task = task;
+            this.retired = retired;
+        }
+
+        @Override
+        public void run() {
+            if (!begin() || !compareAndSet(false, true)) return;
+            tasks.remove(this);
+            task.run();
+        }
+
+        @Override
+        public boolean cancel() {
+            return compareAndSet(false, true);
+        }
+
+        @Override
+        public boolean isDone() {
+            return get();
+        }
+
+        @Override
+        public @Nullable Runnable retired() {
+            return retired;
+        }
     }
 }
@@ -25,9 +25,8 @@ package de.crazydev22.platformutils.spigot.scheduler;
 
 import de.crazydev22.platformutils.scheduler.IGlobalScheduler;
 import de.crazydev22.platformutils.scheduler.task.CompletableTask;
-import de.crazydev22.platformutils.scheduler.task.Ref;
+import de.crazydev22.platformutils.scheduler.task.ManagedTask;
 import de.crazydev22.platformutils.scheduler.task.Task;
-import de.crazydev22.platformutils.spigot.SpigotTask;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.scheduler.BukkitScheduler;
 import org.jetbrains.annotations.NotNull;
@@ -45,15 +44,29 @@ public class SpigotGlobalScheduler implements IGlobalScheduler {
         this.scheduler = scheduler;
     }
 
+    @Override
+    public @NotNull <R> CompletableTask<R> run(@NotNull Function<CompletableTask<R>, R> task) {
+        var wrapped = new ManagedTask.Completable<R>(plugin, false);
+        wrapped.bind(scheduler.runTask(plugin, () -> wrapped.complete(task)));
+        return wrapped;
+    }
+
+    @Override
+    public void execute(@NotNull Runnable task) {
+        scheduler.runTask(plugin, task);
+    }
+
     @Override
     public @NotNull <R> CompletableTask<R> runDelayed(@NotNull Function<CompletableTask<R>, R> task, @Range(from = 1, to = Long.MAX_VALUE) long delayTicks) {
-        Ref<SpigotTask.Completable<R>> ref = new Ref<>();
-        return ref.set(new SpigotTask.Completable<>(scheduler.runTaskLater(plugin, ref.run(task, SpigotTask.Completable::complete), delayTicks)));
+        var wrapped = new ManagedTask.Completable<R>(plugin, false);
+        wrapped.bind(scheduler.runTaskLater(plugin, () -> wrapped.complete(task), delayTicks));
+        return wrapped;
     }
 
     @Override
     public @NotNull Task runAtFixedRate(@NotNull Consumer<Task> task, @Range(from = 1, to = Long.MAX_VALUE) long initialDelayTicks, @Range(from = 1, to = Long.MAX_VALUE) long periodTicks) {
-        Ref<Task> ref = new Ref<>();
-        return ref.set(new SpigotTask(scheduler.runTaskTimer(plugin, ref.run(task), initialDelayTicks, periodTicks), true));
+        var wrapped = new ManagedTask(plugin, true, false);
+        wrapped.bind(scheduler.runTaskTimer(plugin, () -> wrapped.run(task), initialDelayTicks, periodTicks));
+        return wrapped;
     }
 }
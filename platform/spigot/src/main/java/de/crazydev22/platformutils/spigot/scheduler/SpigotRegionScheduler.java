@@ -41,6 +41,16 @@ public class SpigotRegionScheduler implements IRegionScheduler {
         this.scheduler = scheduler;
     }
 
+    @Override
+    public @NotNull <R> CompletableTask<R> run(@NotNull World world, int chunkX, int chunkZ, @NotNull Function<CompletableTask<R>, R> task) {
+        return scheduler.run(task);
+    }
+
+    @Override
+    public void execute(@NotNull World world, int chunkX, int chunkZ, @NotNull Runnable task) {
+        scheduler.execute(task);
+    }
+
     @Override
     public @NotNull <R> CompletableTask<R> runDelayed(@NotNull World world, int chunkX, int chunkZ, @NotNull Function<CompletableTask<R>, R> task, @Range(from = 1, to = Long.MAX_VALUE) long delayTicks) {
         return scheduler.runDelayed(task, delayTicks);
@@ -7,5 +7,6 @@ rootProject.name = "PlatformUtils"
 include(
     "api",
     "platform:spigot",
-    "platform:paper"
+    "platform:paper",
+    "benchmarks"
 )
\ No newline at end of file
@@ -24,6 +24,7 @@
 package de.crazydev22.platformutils;
 
 import de.crazydev22.platformutils.paper.PaperPlatform;
+import de.crazydev22.platformutils.scheduler.AsyncMode;
 import de.crazydev22.platformutils.spigot.SpigotPlatform;
 import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.ApiStatus;
@@ -50,12 +51,26 @@ public class PlatformUtils {
      */
     @NotNull
     public static Platform createPlatform(@NotNull Plugin plugin) {
+        return createPlatform(plugin, AsyncMode.PLATFORM);
+    }
+
+    /**
+     * Creates and returns a platform instance based on the currently available server configuration.
+     *
+     * @param plugin    the plugin instance used to initialize the platform
+     * @param asyncMode the threads to run async tasks on, falls back to {@link AsyncMode#PLATFORM} if unsupported
+     * @return an appropriate Platform implementation based on the detected server configuration
+     * @throws IllegalStateException if the platform is unsupported
+     * @throws IllegalStateException if the adventure api was relocated
+     */
+    @NotNull
+    public static Platform createPlatform(@NotNull Plugin plugin, @NotNull AsyncMode asyncMode) {
         if (RelocationCheck.isRelocated())
             throw new IllegalStateException("Adventure API was relocated.");
         if (hasClass("com.destroystokyo.paper.PaperConfig") || hasClass("io.papermc.paper.configuration.Configuration"))
-            return new PaperPlatform(plugin);
+            return new PaperPlatform(plugin, asyncMode);
         if (hasClass("org.spigotmc.SpigotConfig"))
-            return new SpigotPlatform(plugin);
+            return new SpigotPlatform(plugin, asyncMode);
         throw new IllegalStateException("Unsupported platform!");
     }
 